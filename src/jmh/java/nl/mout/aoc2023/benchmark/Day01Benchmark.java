@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day01.Trebuchet;
+
+public class Day01Benchmark extends ScalableSolverBenchmark<Trebuchet> {
+
+    @Override
+    protected String filename() {
+        return "day01-input.txt";
+    }
+
+    @Override
+    protected Trebuchet parse(String input) {
+        return new Trebuchet(input);
+    }
+
+    @Override
+    protected long part1(Trebuchet solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(Trebuchet solver) {
+        return solver.part2();
+    }
+}
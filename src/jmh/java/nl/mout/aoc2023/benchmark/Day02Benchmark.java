@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day02.CubeConundrum;
+
+public class Day02Benchmark extends ScalableSolverBenchmark<CubeConundrum> {
+
+    @Override
+    protected String filename() {
+        return "day02-input.txt";
+    }
+
+    @Override
+    protected CubeConundrum parse(String input) {
+        return new CubeConundrum(input);
+    }
+
+    @Override
+    protected long part1(CubeConundrum solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(CubeConundrum solver) {
+        return solver.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day03.GearRatios;
+
+public class Day03Benchmark extends ScalableSolverBenchmark<GearRatios> {
+
+    @Override
+    protected String filename() {
+        return "day03-input.txt";
+    }
+
+    @Override
+    protected GearRatios parse(String input) {
+        return new GearRatios(input);
+    }
+
+    @Override
+    protected long part1(GearRatios solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(GearRatios solver) {
+        return solver.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day04.Scratchcards;
+
+public class Day04Benchmark extends SolverBenchmark<Scratchcards> {
+
+    @Override
+    protected String filename() {
+        return "day04-input.txt";
+    }
+
+    @Override
+    protected Scratchcards parse(String input) {
+        return new Scratchcards(input);
+    }
+
+    @Override
+    protected long part1(Scratchcards solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(Scratchcards solver) {
+        return solver.part2();
+    }
+}
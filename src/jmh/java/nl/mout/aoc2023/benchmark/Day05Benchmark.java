@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day05.Seed;
+
+public class Day05Benchmark extends SolverBenchmark<Seed> {
+
+    @Override
+    protected String filename() {
+        return "day05-input.txt";
+    }
+
+    @Override
+    protected Seed parse(String input) {
+        return new Seed(input);
+    }
+
+    @Override
+    protected long part1(Seed solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(Seed solver) {
+        return solver.part2();
+    }
+}
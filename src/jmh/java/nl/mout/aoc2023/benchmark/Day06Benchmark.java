@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day06.WaitForIt;
+
+public class Day06Benchmark extends SolverBenchmark<WaitForIt> {
+
+    @Override
+    protected String filename() {
+        return "day06-input.txt";
+    }
+
+    @Override
+    protected WaitForIt parse(String input) {
+        return new WaitForIt(input);
+    }
+
+    @Override
+    protected long part1(WaitForIt solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(WaitForIt solver) {
+        return solver.part2();
+    }
+}
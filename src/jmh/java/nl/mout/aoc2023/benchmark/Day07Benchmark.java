@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day07.CamelCards;
+
+public class Day07Benchmark extends SolverBenchmark<CamelCards> {
+
+    @Override
+    protected String filename() {
+        return "day07-input.txt";
+    }
+
+    @Override
+    protected CamelCards parse(String input) {
+        return new CamelCards(input);
+    }
+
+    @Override
+    protected long part1(CamelCards solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(CamelCards solver) {
+        return solver.part2();
+    }
+}
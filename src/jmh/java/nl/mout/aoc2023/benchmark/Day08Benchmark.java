@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day08.HauntedWasteland;
+
+public class Day08Benchmark extends SolverBenchmark<HauntedWasteland> {
+
+    @Override
+    protected String filename() {
+        return "day08-input.txt";
+    }
+
+    @Override
+    protected HauntedWasteland parse(String input) {
+        return new HauntedWasteland(input);
+    }
+
+    @Override
+    protected long part1(HauntedWasteland solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(HauntedWasteland solver) {
+        return solver.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day09.MirageMaintenance;
+
+public class Day09Benchmark extends ScalableSolverBenchmark<MirageMaintenance> {
+
+    @Override
+    protected String filename() {
+        return "day09-input.txt";
+    }
+
+    @Override
+    protected MirageMaintenance parse(String input) {
+        return new MirageMaintenance(input);
+    }
+
+    @Override
+    protected long part1(MirageMaintenance solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(MirageMaintenance solver) {
+        return solver.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day10.PipeMaze;
+
+public class Day10Benchmark extends SolverBenchmark<PipeMaze> {
+
+    @Override
+    protected String filename() {
+        return "day10-input.txt";
+    }
+
+    @Override
+    protected PipeMaze parse(String input) {
+        return new PipeMaze(input);
+    }
+
+    @Override
+    protected long part1(PipeMaze solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(PipeMaze solver) {
+        return solver.part2();
+    }
+}
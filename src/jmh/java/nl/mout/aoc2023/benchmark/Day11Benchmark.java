@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day11.CosmicExpansion;
+
+public class Day11Benchmark extends SolverBenchmark<CosmicExpansion> {
+
+    @Override
+    protected String filename() {
+        return "day11-input.txt";
+    }
+
+    @Override
+    protected CosmicExpansion parse(String input) {
+        return new CosmicExpansion(input);
+    }
+
+    @Override
+    protected long part1(CosmicExpansion solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(CosmicExpansion solver) {
+        return solver.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day12.HotSprings;
+
+public class Day12Benchmark extends ScalableSolverBenchmark<HotSprings> {
+
+    @Override
+    protected String filename() {
+        return "day12-input.txt";
+    }
+
+    @Override
+    protected HotSprings parse(String input) {
+        return new HotSprings(input);
+    }
+
+    @Override
+    protected long part1(HotSprings solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(HotSprings solver) {
+        return solver.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day13.PointOfIncidence;
+
+public class Day13Benchmark extends SolverBenchmark<PointOfIncidence> {
+
+    @Override
+    protected String filename() {
+        return "day13-input.txt";
+    }
+
+    @Override
+    protected PointOfIncidence parse(String input) {
+        return new PointOfIncidence(input);
+    }
+
+    @Override
+    protected long part1(PointOfIncidence solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(PointOfIncidence solver) {
+        return solver.part2();
+    }
+}
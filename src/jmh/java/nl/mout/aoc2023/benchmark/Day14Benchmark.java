@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day14.ParabolicReflectorDish;
+
+public class Day14Benchmark extends SolverBenchmark<ParabolicReflectorDish> {
+
+    @Override
+    protected String filename() {
+        return "day14-input.txt";
+    }
+
+    @Override
+    protected ParabolicReflectorDish parse(String input) {
+        return new ParabolicReflectorDish(input);
+    }
+
+    @Override
+    protected long part1(ParabolicReflectorDish solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(ParabolicReflectorDish solver) {
+        return solver.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day15.LensLibrary;
+
+public class Day15Benchmark extends SolverBenchmark<LensLibrary> {
+
+    @Override
+    protected String filename() {
+        return "day15-input.txt";
+    }
+
+    @Override
+    protected LensLibrary parse(String input) {
+        return new LensLibrary(input);
+    }
+
+    @Override
+    protected long part1(LensLibrary solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(LensLibrary solver) {
+        return solver.part2();
+    }
+}
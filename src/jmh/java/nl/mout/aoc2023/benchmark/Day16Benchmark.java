@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day16.LavaFloor;
+
+public class Day16Benchmark extends SolverBenchmark<LavaFloor> {
+
+    @Override
+    protected String filename() {
+        return "day16-input.txt";
+    }
+
+    @Override
+    protected LavaFloor parse(String input) {
+        return new LavaFloor(input);
+    }
+
+    @Override
+    protected long part1(LavaFloor solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(LavaFloor solver) {
+        return solver.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day17.ClumsyCrucible;
+
+public class Day17Benchmark extends SolverBenchmark<ClumsyCrucible> {
+
+    @Override
+    protected String filename() {
+        return "day17-input.txt";
+    }
+
+    @Override
+    protected ClumsyCrucible parse(String input) {
+        return new ClumsyCrucible(input);
+    }
+
+    @Override
+    protected long part1(ClumsyCrucible solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(ClumsyCrucible solver) {
+        return solver.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day18.LavaductLagoon;
+
+public class Day18Benchmark extends SolverBenchmark<LavaductLagoon> {
+
+    @Override
+    protected String filename() {
+        return "day18-input.txt";
+    }
+
+    @Override
+    protected LavaductLagoon parse(String input) {
+        return new LavaductLagoon(input);
+    }
+
+    @Override
+    protected long part1(LavaductLagoon solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(LavaductLagoon solver) {
+        return solver.part2();
+    }
+}
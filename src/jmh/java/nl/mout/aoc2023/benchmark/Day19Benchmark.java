@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day19.Aplenty;
+
+public class Day19Benchmark extends SolverBenchmark<Aplenty> {
+
+    @Override
+    protected String filename() {
+        return "day19-input.txt";
+    }
+
+    @Override
+    protected Aplenty parse(String input) {
+        return new Aplenty(input);
+    }
+
+    @Override
+    protected long part1(Aplenty solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(Aplenty solver) {
+        return solver.part2();
+    }
+}
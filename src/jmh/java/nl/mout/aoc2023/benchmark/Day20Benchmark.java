@@ -0,0 +1,51 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day20.PulsePropagation;
+import org.openjdk.jmh.annotations.*;
+
+public class Day20Benchmark extends ParseBenchmark<PulsePropagation> {
+
+    @State(Scope.Thread)
+    public static class Fresh {
+
+        PulsePropagation solver;
+
+        @Setup(Level.Invocation)
+        public void setUp(Day20Benchmark benchmark) {
+            solver = benchmark.parse(benchmark.input);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Primed {
+
+        PulsePropagation solver;
+
+        // part2 continues from the module state left behind by the 1000 presses of part1
+        @Setup(Level.Invocation)
+        public void setUp(Day20Benchmark benchmark) {
+            solver = benchmark.parse(benchmark.input);
+            solver.part1();
+        }
+    }
+
+    @Override
+    protected String filename() {
+        return "day20-input.txt";
+    }
+
+    @Override
+    protected PulsePropagation parse(String input) {
+        return new PulsePropagation(input);
+    }
+
+    @Benchmark
+    public long part1(Fresh state) {
+        return state.solver.part1();
+    }
+
+    @Benchmark
+    public long part2(Primed state) {
+        return state.solver.part2();
+    }
+}
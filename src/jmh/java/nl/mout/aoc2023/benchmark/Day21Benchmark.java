@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day21.StepCounter;
+
+public class Day21Benchmark extends SolverBenchmark<StepCounter> {
+
+    @Override
+    protected String filename() {
+        return "day21-input.txt";
+    }
+
+    @Override
+    protected StepCounter parse(String input) {
+        return new StepCounter(input);
+    }
+
+    @Override
+    protected long part1(StepCounter solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(StepCounter solver) {
+        return solver.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day22.SandSlabs;
+
+public class Day22Benchmark extends SolverBenchmark<SandSlabs> {
+
+    @Override
+    protected String filename() {
+        return "day22-input.txt";
+    }
+
+    @Override
+    protected SandSlabs parse(String input) {
+        return new SandSlabs(input);
+    }
+
+    @Override
+    protected long part1(SandSlabs solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(SandSlabs solver) {
+        return solver.part2();
+    }
+}
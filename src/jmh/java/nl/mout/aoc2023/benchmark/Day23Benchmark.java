@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day23.Walk;
+
+public class Day23Benchmark extends SolverBenchmark<Walk> {
+
+    @Override
+    protected String filename() {
+        return "day23-input.txt";
+    }
+
+    @Override
+    protected Walk parse(String input) {
+        return new Walk(input);
+    }
+
+    @Override
+    protected long part1(Walk solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(Walk solver) {
+        return solver.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day24.Odds;
+
+public class Day24Benchmark extends SolverBenchmark<Odds> {
+
+    @Override
+    protected String filename() {
+        return "day24-input.txt";
+    }
+
+    @Override
+    protected Odds parse(String input) {
+        return new Odds(input);
+    }
+
+    @Override
+    protected long part1(Odds solver) {
+        return solver.part1();
+    }
+
+    @Override
+    protected long part2(Odds solver) {
+        return solver.part2();
+    }
+}
@@ -0,0 +1,22 @@
+package nl.mout.aoc2023.benchmark;
+
+import nl.mout.aoc2023.day25.Snowverload;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class Day25Benchmark extends ParseBenchmark<Snowverload> {
+
+    @Override
+    protected String filename() {
+        return "day25-input.txt";
+    }
+
+    @Override
+    protected Snowverload parse(String input) {
+        return new Snowverload(input);
+    }
+
+    @Benchmark
+    public long part1() {
+        return solver.part1();
+    }
+}
@@ -0,0 +1,38 @@
+package nl.mout.aoc2023.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static nl.mout.aoc2023.support.InputLoader.loadInput;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public abstract class ParseBenchmark<T> {
+
+    protected String input;
+    protected T solver;
+
+    protected abstract String filename();
+
+    protected abstract T parse(String input);
+
+    protected String input() {
+        return loadInput(filename());
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = input();
+        solver = parse(input);
+    }
+
+    @Benchmark
+    public T parse() {
+        return parse(input);
+    }
+}
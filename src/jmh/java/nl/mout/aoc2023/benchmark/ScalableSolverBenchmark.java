@@ -0,0 +1,17 @@
+package nl.mout.aoc2023.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+
+import static java.util.Collections.nCopies;
+import static nl.mout.aoc2023.support.InputLoader.loadInput;
+
+public abstract class ScalableSolverBenchmark<T> extends SolverBenchmark<T> {
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    @Override
+    protected String input() {
+        return String.join("\n", nCopies(scale, loadInput(filename()).strip()));
+    }
+}
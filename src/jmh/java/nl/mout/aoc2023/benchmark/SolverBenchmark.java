@@ -0,0 +1,20 @@
+package nl.mout.aoc2023.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+public abstract class SolverBenchmark<T> extends ParseBenchmark<T> {
+
+    protected abstract long part1(T solver);
+
+    protected abstract long part2(T solver);
+
+    @Benchmark
+    public long part1() {
+        return part1(solver);
+    }
+
+    @Benchmark
+    public long part2() {
+        return part2(solver);
+    }
+}
@@ -0,0 +1,86 @@
+package nl.mout.aoc2023.day01;
+
+import java.util.List;
+
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+
+class AhoCorasick {
+
+    static final int NO_MATCH = -1;
+
+    private final int[] classOf = new int[256];
+    private final int classes;
+    private final int[] transitions;
+    private final int[] outputs;
+
+    AhoCorasick(List<String> patterns, int[] values) {
+        var classCount = 1;
+        var maxStates = 1;
+        for (var pattern : patterns) {
+            maxStates += pattern.length();
+            for (var i = 0; i < pattern.length(); i++) {
+                var ch = pattern.charAt(i) & 0xFF;
+                if (classOf[ch] == 0) {
+                    classOf[ch] = classCount++;
+                }
+            }
+        }
+        classes = classCount;
+
+        var trie = new int[maxStates * classes];
+        var out = new int[maxStates];
+        fill(trie, -1);
+        fill(out, NO_MATCH);
+        var states = 1;
+        for (var p = 0; p < patterns.size(); p++) {
+            var state = 0;
+            var pattern = patterns.get(p);
+            for (var i = 0; i < pattern.length(); i++) {
+                var slot = state * classes + classOf[pattern.charAt(i) & 0xFF];
+                if (trie[slot] < 0) {
+                    trie[slot] = states++;
+                }
+                state = trie[slot];
+            }
+            out[state] = values[p];
+        }
+
+        var fail = new int[states];
+        var queue = new int[states];
+        int head = 0, tail = 0;
+        for (var c = 0; c < classes; c++) {
+            if (trie[c] < 0) {
+                trie[c] = 0;
+            } else {
+                queue[tail++] = trie[c];
+            }
+        }
+        while (head < tail) {
+            var state = queue[head++];
+            if (out[state] == NO_MATCH) {
+                out[state] = out[fail[state]];
+            }
+            for (var c = 0; c < classes; c++) {
+                var slot = state * classes + c;
+                var fallback = trie[fail[state] * classes + c];
+                if (trie[slot] < 0) {
+                    trie[slot] = fallback;
+                } else {
+                    fail[trie[slot]] = fallback;
+                    queue[tail++] = trie[slot];
+                }
+            }
+        }
+        transitions = copyOf(trie, states * classes);
+        outputs = copyOf(out, states);
+    }
+
+    int next(int state, byte b) {
+        return transitions[state * classes + classOf[b & 0xFF]];
+    }
+
+    int output(int state) {
+        return outputs[state];
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day01;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day01Solver implements Solver<Trebuchet> {
+
+    @Override
+    public int day() {
+        return 1;
+    }
+
+    @Override
+    public Trebuchet parse(String input) {
+        return new Trebuchet(input);
+    }
+
+    @Override
+    public Object part1(Trebuchet puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(Trebuchet puzzle) {
+        return puzzle.part2();
+    }
+}
@@ -0,0 +1,62 @@
+package nl.mout.aoc2023.day01;
+
+import nl.mout.aoc2023.support.InputBuffer;
+
+import java.util.NoSuchElementException;
+
+class DigitScanner {
+
+    private static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    static int sum(InputBuffer input, int from, int to) {
+        return VECTORIZED ? VectorDigitScanner.sum(input, from, to) : scalarSum(input, from, to);
+    }
+
+    private static int scalarSum(InputBuffer input, int from, int to) {
+        var sum = new DigitSum(from);
+        for (var i = from; i < to; i++) {
+            var b = input.byteAt(i);
+            if (b == '\n') {
+                sum.newline(i);
+            } else if ('0' <= b && b <= '9') {
+                sum.digit(b - '0');
+            }
+        }
+        return sum.finish(to);
+    }
+
+    static class DigitSum {
+
+        private int sum;
+        private int first = -1;
+        private int last = -1;
+        private int lineStart;
+
+        DigitSum(int from) {
+            this.lineStart = from;
+        }
+
+        void digit(int digit) {
+            if (first < 0) {
+                first = digit;
+            }
+            last = digit;
+        }
+
+        void newline(int index) {
+            if (first < 0) {
+                throw new NoSuchElementException("No digit found on line starting at offset " + lineStart);
+            }
+            sum += first * 10 + last;
+            first = -1;
+            lineStart = index + 1;
+        }
+
+        int finish(int to) {
+            if (lineStart < to) {
+                newline(to);
+            }
+            return sum;
+        }
+    }
+}
@@ -1,71 +1,105 @@
 package nl.mout.aoc2023.day01;
 
-import java.util.Map;
-import java.util.Optional;
+import nl.mout.aoc2023.support.InputBuffer;
+import nl.mout.aoc2023.support.RangeSplitter;
+import nl.mout.aoc2023.support.RangeSplitter.RangeScanner;
 
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toMap;
-import static java.util.stream.IntStream.range;
-import static nl.mout.aoc2023.support.InputLoader.loadInput;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+
+import static nl.mout.aoc2023.day01.AhoCorasick.NO_MATCH;
+import static nl.mout.aoc2023.support.InputLoader.mapInput;
 
 public class Trebuchet {
 
-    private final String input;
+    private static final List<String> SPELLED_OUT_DIGITS = List.of(
+            "one", "two", "three", "four", "five", "six", "seven", "eight", "nine"
+    );
+    private static final AhoCorasick FORWARD = createAutomaton(false);
+    private static final AhoCorasick BACKWARD = createAutomaton(true);
+    private static final int CHUNK_SIZE = 1 << 20;
+
+    private final InputBuffer input;
+    private final ForkJoinPool pool;
 
     public Trebuchet(String input) {
+        this(InputBuffer.of(input));
+    }
+
+    public Trebuchet(InputBuffer input) {
+        this(input, null);
+    }
+
+    public Trebuchet(InputBuffer input, ForkJoinPool pool) {
         this.input = input;
+        this.pool = pool;
     }
 
     public int part1() {
-        return calculateSum(createDigitMapping());
+        return scan((from, to) -> DigitScanner.sum(input, from, to), Integer::sum);
     }
 
     public int part2() {
-        var mapping = createDigitMapping();
-        extendMappingWithSpelledOutDigits(mapping);
-        return calculateSum(mapping);
+        return scan((from, to) -> {
+            var sum = new CalibrationSum();
+            input.forEachLine(from, to, sum);
+            return sum.sum;
+        }, Integer::sum);
     }
 
-    private Map<String, Integer> createDigitMapping() {
-        return range(0, 10)
-                .boxed()
-                .collect(toMap(String::valueOf, identity()));
+    private static AhoCorasick createAutomaton(boolean reversed) {
+        var patterns = new ArrayList<String>();
+        var values = new int[10 + SPELLED_OUT_DIGITS.size()];
+        for (var digit = 0; digit < 10; digit++) {
+            patterns.add(String.valueOf(digit));
+            values[digit] = digit;
+        }
+        for (var i = 0; i < SPELLED_OUT_DIGITS.size(); i++) {
+            var word = SPELLED_OUT_DIGITS.get(i);
+            patterns.add(reversed ? new StringBuilder(word).reverse().toString() : word);
+            values[10 + i] = i + 1;
+        }
+        return new AhoCorasick(patterns, values);
     }
 
-    private void extendMappingWithSpelledOutDigits(Map<String, Integer> mapping) {
-        mapping.put("one", 1);
-        mapping.put("two", 2);
-        mapping.put("three", 3);
-        mapping.put("four", 4);
-        mapping.put("five", 5);
-        mapping.put("six", 6);
-        mapping.put("seven", 7);
-        mapping.put("eight", 8);
-        mapping.put("nine", 9);
+    private <T> T scan(RangeScanner<T> scanner, BinaryOperator<T> combiner) {
+        return RangeSplitter.scan(pool, 0, input.length(), CHUNK_SIZE,
+                (from, to) -> input.lineStartAtOrAfter(from + (to - from) / 2), scanner, combiner);
     }
 
-    private int calculateSum(Map<String, Integer> mapping) {
-        return input.lines()
-                .mapToInt(line -> extractCalibrationValue(line, mapping))
-                .sum();
-    }
+    private static class CalibrationSum implements InputBuffer.LineVisitor {
+
+        private int sum;
+
+        @Override
+        public void visit(InputBuffer input, int start, int end) {
+            var first = NO_MATCH;
+            var state = 0;
+            for (var i = start; i < end && first == NO_MATCH; i++) {
+                state = FORWARD.next(state, input.byteAt(i));
+                first = FORWARD.output(state);
+            }
+
+            var last = NO_MATCH;
+            state = 0;
+            for (var i = end - 1; i >= start && last == NO_MATCH; i--) {
+                state = BACKWARD.next(state, input.byteAt(i));
+                last = BACKWARD.output(state);
+            }
 
-    private int extractCalibrationValue(String line, Map<String, Integer> mapping) {
-        var digits = range(0, line.length())
-                .mapToObj(line::substring)
-                .map(s -> mapping.keySet().stream()
-                        .filter(s::startsWith)
-                        .findFirst()
-                        .map(mapping::get))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .toList();
-        return (digits.getFirst() * 10) + digits.getLast();
+            if (first == NO_MATCH) {
+                throw new NoSuchElementException("No digit found on line: " + input.subSequence(start, end));
+            }
+            sum += first * 10 + last;
+        }
     }
 
     public static void main(String[] args) {
-        var input = loadInput("day01-input.txt");
-        var trebuchet = new Trebuchet(input);
+        var input = mapInput("day01-input.txt");
+        var trebuchet = new Trebuchet(input, ForkJoinPool.commonPool());
         System.out.printf("Part 1: %d\n", trebuchet.part1());
         System.out.printf("Part 2: %d\n", trebuchet.part2());
     }
@@ -0,0 +1,50 @@
+package nl.mout.aoc2023.day01;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorSpecies;
+import nl.mout.aoc2023.support.InputBuffer;
+
+import static java.lang.Math.min;
+import static jdk.incubator.vector.VectorOperators.EQ;
+import static jdk.incubator.vector.VectorOperators.UNSIGNED_LT;
+
+class VectorDigitScanner {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    static int sum(InputBuffer input, int from, int to) {
+        var block = new byte[BLOCK_SIZE];
+        var sum = new DigitScanner.DigitSum(from);
+        for (var blockStart = from; blockStart < to; blockStart += BLOCK_SIZE) {
+            var length = min(BLOCK_SIZE, to - blockStart);
+            input.copyTo(blockStart, block, 0, length);
+            var bound = SPECIES.loopBound(length);
+            var i = 0;
+            for (; i < bound; i += SPECIES.length()) {
+                var vector = ByteVector.fromArray(SPECIES, block, i);
+                var newlines = vector.compare(EQ, (byte) '\n').toLong();
+                var digits = vector.sub((byte) '0').compare(UNSIGNED_LT, (byte) 10).toLong();
+                var events = newlines | digits;
+                while (events != 0) {
+                    var lane = Long.numberOfTrailingZeros(events);
+                    events &= events - 1;
+                    if ((newlines & (1L << lane)) != 0) {
+                        sum.newline(blockStart + i + lane);
+                    } else {
+                        sum.digit(block[i + lane] - '0');
+                    }
+                }
+            }
+            for (; i < length; i++) {
+                var b = block[i];
+                if (b == '\n') {
+                    sum.newline(blockStart + i);
+                } else if ('0' <= b && b <= '9') {
+                    sum.digit(b - '0');
+                }
+            }
+        }
+        return sum.finish(to);
+    }
+}
@@ -0,0 +1,102 @@
+package nl.mout.aoc2023.day02;
+
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.binarySearch;
+import static java.util.Arrays.fill;
+import static java.util.Arrays.sort;
+
+class ConfigurationIndex {
+
+    private final int[] ids;
+    private final int[] maxRed;
+    private final int[] blueByGame;
+    private final int[] greenRankByGame;
+    private final long[] gamesByRed;
+    private final int[] greens;
+    private final int[][] nodeBlues;
+    private final long[][] nodeSums;
+
+    ConfigurationIndex(int size, int[] ids, int[] maxRed, int[] maxGreen, int[] maxBlue) {
+        this.ids = ids;
+        this.maxRed = maxRed;
+        this.blueByGame = maxBlue;
+        greens = IntStream.of(maxGreen).limit(size).distinct().sorted().toArray();
+        greenRankByGame = new int[size];
+        gamesByRed = new long[size];
+        for (var game = 0; game < size; game++) {
+            greenRankByGame[game] = binarySearch(greens, maxGreen[game]) + 1;
+            gamesByRed[game] = ((long) maxRed[game] << 32) | game;
+        }
+        sort(gamesByRed);
+
+        var counts = new int[greens.length + 1];
+        for (var game = 0; game < size; game++) {
+            for (var node = greenRankByGame[game]; node <= greens.length; node += node & -node) {
+                counts[node]++;
+            }
+        }
+        nodeBlues = new int[greens.length + 1][];
+        nodeSums = new long[greens.length + 1][];
+        for (var node = 1; node <= greens.length; node++) {
+            nodeBlues[node] = new int[counts[node]];
+            counts[node] = 0;
+        }
+        for (var game = 0; game < size; game++) {
+            for (var node = greenRankByGame[game]; node <= greens.length; node += node & -node) {
+                nodeBlues[node][counts[node]++] = maxBlue[game];
+            }
+        }
+        for (var node = 1; node <= greens.length; node++) {
+            nodeBlues[node] = IntStream.of(nodeBlues[node]).distinct().sorted().toArray();
+            nodeSums[node] = new long[nodeBlues[node].length + 1];
+        }
+    }
+
+    long[] possibleGameIdSums(int[] red, int[] green, int[] blue) {
+        for (var node = 1; node <= greens.length; node++) {
+            fill(nodeSums[node], 0);
+        }
+        var queriesByRed = new long[red.length];
+        for (var query = 0; query < red.length; query++) {
+            queriesByRed[query] = ((long) red[query] << 32) | query;
+        }
+        sort(queriesByRed);
+
+        var sums = new long[red.length];
+        var next = 0;
+        for (var entry : queriesByRed) {
+            var query = (int) entry;
+            while (next < gamesByRed.length && maxRed[(int) gamesByRed[next]] <= red[query]) {
+                add((int) gamesByRed[next++]);
+            }
+            sums[query] = sum(green[query], blue[query]);
+        }
+        return sums;
+    }
+
+    private void add(int game) {
+        for (var node = greenRankByGame[game]; node <= greens.length; node += node & -node) {
+            var blues = nodeBlues[node];
+            var tree = nodeSums[node];
+            for (var i = binarySearch(blues, blueByGame[game]) + 1; i < tree.length; i += i & -i) {
+                tree[i] += ids[game];
+            }
+        }
+    }
+
+    private long sum(int green, int blue) {
+        var sum = 0L;
+        for (var node = floorRank(greens, green) + 1; node > 0; node -= node & -node) {
+            for (var i = floorRank(nodeBlues[node], blue) + 1; i > 0; i -= i & -i) {
+                sum += nodeSums[node][i];
+            }
+        }
+        return sum;
+    }
+
+    private static int floorRank(int[] values, int value) {
+        var rank = binarySearch(values, value);
+        return rank >= 0 ? rank : -rank - 2;
+    }
+}
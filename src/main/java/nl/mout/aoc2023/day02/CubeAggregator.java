@@ -0,0 +1,137 @@
+package nl.mout.aoc2023.day02;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+import static java.lang.Math.max;
+
+public class CubeAggregator {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final int redLimit;
+    private final int greenLimit;
+    private final int blueLimit;
+
+    private long idSum;
+    private long powerSum;
+    private long gameCount;
+
+    private boolean inLine;
+    private boolean inSets;
+    private boolean colourSeen;
+    private int id;
+    private int amount;
+    private int red;
+    private int green;
+    private int blue;
+
+    public CubeAggregator() {
+        this(12, 13, 14);
+    }
+
+    public CubeAggregator(int redLimit, int greenLimit, int blueLimit) {
+        this.redLimit = redLimit;
+        this.greenLimit = greenLimit;
+        this.blueLimit = blueLimit;
+    }
+
+    public long idSum() {
+        return idSum;
+    }
+
+    public long powerSum() {
+        return powerSum;
+    }
+
+    public long gameCount() {
+        return gameCount;
+    }
+
+    public void accept(CharSequence line) {
+        for (var i = 0; i < line.length(); i++) {
+            accept(line.charAt(i));
+        }
+        accept('\n');
+    }
+
+    public void accept(ByteBuffer chunk) {
+        while (chunk.hasRemaining()) {
+            accept((char) (chunk.get() & 0xFF));
+        }
+    }
+
+    public void consume(Reader reader) throws IOException {
+        var buffer = CharBuffer.allocate(BUFFER_SIZE);
+        while (reader.read(buffer) >= 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                accept(buffer.get());
+            }
+            buffer.clear();
+        }
+        endOfInput();
+    }
+
+    public void consume(ReadableByteChannel channel) throws IOException {
+        var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (channel.read(buffer) >= 0) {
+            buffer.flip();
+            accept(buffer);
+            buffer.clear();
+        }
+        endOfInput();
+    }
+
+    public void endOfInput() {
+        if (inLine) {
+            accept('\n');
+        }
+    }
+
+    private void accept(char ch) {
+        if (ch == '\n') {
+            if (inSets) {
+                completeGame();
+            }
+            resetLine();
+            return;
+        }
+        inLine = true;
+        if (ch == ':') {
+            inSets = true;
+        } else if ('0' <= ch && ch <= '9') {
+            if (inSets) {
+                amount = amount * 10 + (ch - '0');
+                colourSeen = false;
+            } else {
+                id = id * 10 + (ch - '0');
+            }
+        } else if (inSets && !colourSeen && 'a' <= ch && ch <= 'z') {
+            switch (ch) {
+                case 'r' -> red = max(red, amount);
+                case 'g' -> green = max(green, amount);
+                case 'b' -> blue = max(blue, amount);
+                default -> throw new IllegalArgumentException("Unsupported colour starting with: " + ch);
+            }
+            amount = 0;
+            colourSeen = true;
+        }
+    }
+
+    private void completeGame() {
+        if (red <= redLimit && green <= greenLimit && blue <= blueLimit) {
+            idSum += id;
+        }
+        powerSum += (long) red * green * blue;
+        gameCount++;
+    }
+
+    private void resetLine() {
+        inLine = inSets = colourSeen = false;
+        id = amount = red = green = blue = 0;
+    }
+}
@@ -1,73 +1,160 @@
 package nl.mout.aoc2023.day02;
 
+import nl.mout.aoc2023.support.InputBuffer;
+
 import java.util.ArrayList;
 import java.util.List;
 
-import static java.lang.Integer.parseInt;
-import static nl.mout.aoc2023.support.InputLoader.loadInput;
+import static java.lang.Math.max;
+import static nl.mout.aoc2023.support.InputLoader.mapInput;
 
 public class CubeConundrum {
 
-    private final List<Game> games;
+    private static final String GAME_PREFIX = "Game ";
+
+    private final InputBuffer input;
+    private final int[] ids;
+    private final int[] maxRed;
+    private final int[] maxGreen;
+    private final int[] maxBlue;
+    private final int[] setStarts;
+    private final int[] lineEnds;
+    private int size;
+    private ConfigurationIndex configurationIndex;
 
     public CubeConundrum(String input) {
-        this.games = input.lines().map(this::parse).toList();
+        this(InputBuffer.of(input));
+    }
+
+    public CubeConundrum(InputBuffer input) {
+        var capacity = input.nonBlankLineCount();
+        this.input = input;
+        this.ids = new int[capacity];
+        this.maxRed = new int[capacity];
+        this.maxGreen = new int[capacity];
+        this.maxBlue = new int[capacity];
+        this.setStarts = new int[capacity];
+        this.lineEnds = new int[capacity];
+        input.forEachLine((buffer, start, end) -> {
+            if (!buffer.isBlank(start, end)) {
+                parse(start, end);
+            }
+        });
     }
 
     public int part1() {
-        return games.stream()
-                .filter(this::supportsConfiguration)
-                .mapToInt(Game::id)
-                .sum();
+        var sum = 0;
+        for (var game = 0; game < size; game++) {
+            if (maxRed[game] <= 12 && maxGreen[game] <= 13 && maxBlue[game] <= 14) {
+                sum += ids[game];
+            }
+        }
+        return sum;
     }
 
     public int part2() {
-        return games.stream()
-                .mapToInt(this::powerOfFewestNumberOfCubes)
-                .sum();
+        var sum = 0;
+        for (var game = 0; game < size; game++) {
+            sum += maxRed[game] * maxGreen[game] * maxBlue[game];
+        }
+        return sum;
+    }
+
+    public long[] possibleGameIdSums(int[] red, int[] green, int[] blue) {
+        if (configurationIndex == null) {
+            configurationIndex = new ConfigurationIndex(size, ids, maxRed, maxGreen, maxBlue);
+        }
+        return configurationIndex.possibleGameIdSums(red, green, blue);
     }
 
-    private record Game(int id, List<GameSet> sets) {
+    public int gameCount() {
+        return size;
     }
 
-    private record GameSet(int red, int blue, int green) {
+    public int gameId(int game) {
+        return ids[game];
     }
 
-    private Game parse(String line) {
-        var parts = line.split("[:;] ");
-        var gameId = parseInt(parts[0].split(" ")[1]);
+    public List<GameSet> gameSets(int game) {
         var gameSets = new ArrayList<GameSet>();
-        for (int i = 1; i < parts.length; i++) {
-            int red = 0, green = 0, blue = 0;
-            var draws = parts[i].split(",? ");
-            for (int j = 0; j < draws.length; j += 2) {
-                var amount = parseInt(draws[j]);
-                switch (draws[j + 1]) {
-                    case "red" -> red = amount;
-                    case "blue" -> blue = amount;
-                    case "green" -> green = amount;
-                }
+        int red = 0, green = 0, blue = 0;
+        var i = setStarts[game];
+        var end = lineEnds[game];
+        while (i < end) {
+            var amount = 0;
+            for (i++; isDigit(input.byteAt(i)); i++) {
+                amount = amount * 10 + (input.byteAt(i) - '0');
+            }
+            var colour = input.byteAt(++i);
+            switch (colour) {
+                case 'r' -> red = amount;
+                case 'g' -> green = amount;
+                case 'b' -> blue = amount;
+            }
+            i += colourLength(colour);
+            if (i >= end || input.byteAt(i) == ';') {
+                gameSets.add(new GameSet(red, blue, green));
+                red = green = blue = 0;
+            }
+            i++;
+        }
+        return gameSets;
+    }
+
+    public record GameSet(int red, int blue, int green) {
+    }
+
+    private void parse(int start, int end) {
+        if (!input.startsWith(GAME_PREFIX, start, end)) {
+            throw new IllegalArgumentException("Missing game header: " + input.subSequence(start, end));
+        }
+        var i = start + GAME_PREFIX.length();
+        var id = 0;
+        for (; i < end && isDigit(input.byteAt(i)); i++) {
+            id = id * 10 + (input.byteAt(i) - '0');
+        }
+        if (i >= end || input.byteAt(i) != ':') {
+            throw new IllegalArgumentException("Malformed game id: " + input.subSequence(start, end));
+        }
+        var game = size++;
+        ids[game] = id;
+        setStarts[game] = ++i;
+        lineEnds[game] = end;
+
+        int red = 0, green = 0, blue = 0;
+        while (i < end) {
+            var amount = 0;
+            for (i++; isDigit(input.byteAt(i)); i++) {
+                amount = amount * 10 + (input.byteAt(i) - '0');
+            }
+            var colour = input.byteAt(++i);
+            switch (colour) {
+                case 'r' -> red = max(red, amount);
+                case 'g' -> green = max(green, amount);
+                case 'b' -> blue = max(blue, amount);
             }
-            gameSets.add(new GameSet(red, blue, green));
+            i += colourLength(colour) + 1;
         }
-        return new Game(gameId, gameSets);
+        maxRed[game] = red;
+        maxGreen[game] = green;
+        maxBlue[game] = blue;
     }
 
-    private int powerOfFewestNumberOfCubes(Game game) {
-        var sets = game.sets();
-        var red = sets.stream().mapToInt(GameSet::red).max().orElse(1);
-        var green = sets.stream().mapToInt(GameSet::green).max().orElse(1);
-        var blue = sets.stream().mapToInt(GameSet::blue).max().orElse(1);
-        return red * green * blue;
+    private static int colourLength(byte colour) {
+        return switch (colour) {
+            case 'r' -> "red".length();
+            case 'g' -> "green".length();
+            case 'b' -> "blue".length();
+            default -> throw new IllegalArgumentException("Unsupported colour: " + (char) colour);
+        };
     }
 
-    private boolean supportsConfiguration(Game game) {
-        return game.sets().stream()
-                .allMatch(set -> set.red() <= 12 && set.green() <= 13 && set.blue() <= 14);
+    private static boolean isDigit(byte b) {
+        return '0' <= b && b <= '9';
     }
 
     public static void main(String[] args) {
-        var input = loadInput("day02-input.txt");
+        var input = mapInput("day02-input.txt");
         var cubeConundrum = new CubeConundrum(input);
         System.out.printf("Part 1: %d\n", cubeConundrum.part1());
         System.out.printf("Part 2: %d\n", cubeConundrum.part2());
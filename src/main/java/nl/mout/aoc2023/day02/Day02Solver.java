@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day02;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day02Solver implements Solver<CubeConundrum> {
+
+    @Override
+    public int day() {
+        return 2;
+    }
+
+    @Override
+    public CubeConundrum parse(String input) {
+        return new CubeConundrum(input);
+    }
+
+    @Override
+    public Object part1(CubeConundrum puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(CubeConundrum puzzle) {
+        return puzzle.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day03;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day03Solver implements Solver<GearRatios> {
+
+    @Override
+    public int day() {
+        return 3;
+    }
+
+    @Override
+    public GearRatios parse(String input) {
+        return new GearRatios(input);
+    }
+
+    @Override
+    public Object part1(GearRatios puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(GearRatios puzzle) {
+        return puzzle.part2();
+    }
+}
@@ -1,115 +1,81 @@
 package nl.mout.aoc2023.day03;
 
-import java.util.*;
-import java.util.regex.Pattern;
-
-import static java.lang.Character.isDigit;
-import static java.lang.Integer.parseInt;
-import static java.lang.Math.max;
-import static java.lang.Math.min;
-import static java.util.regex.Pattern.compile;
-import static java.util.stream.IntStream.rangeClosed;
+import nl.mout.aoc2023.support.Grid;
+import nl.mout.aoc2023.support.RangeSplitter;
+import nl.mout.aoc2023.support.RangeSplitter.RangeScanner;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+
 import static nl.mout.aoc2023.support.InputLoader.loadInput;
 
 public class GearRatios {
 
-    private static final Pattern NUMBER_PATTERN = compile("\\d+");
-    private final String[] schemaLines;
-    private final int width;
+    private static final int BAND_ROWS = 1024;
+
+    private final Grid schema;
+    private final ForkJoinPool pool;
+    private final NumberLabels labels;
+    private Sums sums;
 
     public GearRatios(String input) {
-        schemaLines = input.lines().toArray(String[]::new);
-        width = schemaLines[0].length();
+        this(input, null);
     }
 
-    public int part1() {
-        var sum = 0;
-        for (var row = 0; row < schemaLines.length; row++) {
-            var line = schemaLines[row];
-            var matcher = NUMBER_PATTERN.matcher(line);
-            while (matcher.find()) {
-                var number = parseInt(matcher.group());
-                var adjacentSymbols = getAdjacentSymbols(row, matcher.start(), matcher.end());
-                if (!adjacentSymbols.isEmpty()) {
-                    sum += number;
-                }
-            }
-        }
-        return sum;
+    public GearRatios(String input, ForkJoinPool pool) {
+        this.schema = Grid.of(input, (byte) '.');
+        this.pool = pool;
+        this.labels = new NumberLabels(schema);
+        inBands((fromRow, toRow) -> {
+            labels.labelRows(fromRow, toRow);
+            return null;
+        }, (upper, lower) -> null);
     }
 
-    public int part2() {
-        var numbersByGear = new HashMap<AdjacentSymbol, List<Integer>>();
-        for (var row = 0; row < schemaLines.length; row++) {
-            var line = schemaLines[row];
-            var matcher = NUMBER_PATTERN.matcher(line);
-            while (matcher.find()) {
-                var number = parseInt(matcher.group());
-                getAdjacentSymbols(row, matcher.start(), matcher.end()).stream()
-                        .filter(AdjacentSymbol::isGear)
-                        .forEach(as -> numbersByGear.compute(as, (key, numbers) -> {
-                            if (numbers == null) {
-                                return new ArrayList<>(List.of(number));
-                            } else {
-                                numbers.add(number);
-                                return numbers;
-                            }
-                        }));
-            }
-        }
-        return numbersByGear.values().stream()
-                .filter(numbers -> numbers.size() == 2)
-                .mapToInt(numbers -> numbers.getFirst() * numbers.getLast())
-                .sum();
+    public long part1() {
+        return sweep().partNumberSum();
+    }
+
+    public long part2() {
+        return sweep().gearRatioSum();
     }
 
-    private record AdjacentSymbol(int row, int column, char symbol) {
-        boolean isGear() {
-            return symbol == '*';
+    private record Sums(long partNumberSum, long gearRatioSum) {
+
+        Sums combine(Sums other) {
+            return new Sums(partNumberSum + other.partNumberSum, gearRatioSum + other.gearRatioSum);
         }
     }
 
+    private <T> T inBands(RangeScanner<T> scanner, BinaryOperator<T> combiner) {
+        return RangeSplitter.scan(pool, 0, schema.height(), BAND_ROWS, RangeSplitter.MIDPOINT, scanner, combiner);
+    }
 
-    private Set<AdjacentSymbol> getAdjacentSymbols(int row, int start, int end) {
-        var symbols = new HashSet<AdjacentSymbol>();
-        if (row > 0) {
-            rangeClosed(max(start - 1, 0), min(end, width - 1)).forEach(column -> {
-                var ch = schemaLines[row - 1].charAt(column);
-                if (isSymbol(ch)) {
-                    symbols.add(new AdjacentSymbol(row - 1, column, ch));
-                }
-            });
+    private Sums sweep() {
+        if (sums == null) {
+            sums = inBands(this::sweepRows, Sums::combine);
         }
-        if (row < schemaLines.length - 1) {
-            rangeClosed(max(start - 1, 0), min(end, width - 1)).forEach(column -> {
-                var ch = schemaLines[row + 1].charAt(column);
-                if (isSymbol(ch)) {
-                    symbols.add(new AdjacentSymbol(row + 1, column, ch));
+        return sums;
+    }
+
+    private Sums sweepRows(int fromRow, int toRow) {
+        var partNumberSum = 0L;
+        var gearRatioSum = 0L;
+        for (var row = fromRow; row < toRow; row++) {
+            var index = schema.index(row, 0);
+            for (var rowEnd = index + schema.width(); index < rowEnd; index++) {
+                if (labels.isNumberStart(index)) {
+                    partNumberSum += labels.partNumber(index);
                 }
-            });
-        }
-        if (start > 0) {
-            var ch = schemaLines[row].charAt(start - 1);
-            if (isSymbol(ch)) {
-                symbols.add(new AdjacentSymbol(row, start - 1, ch));
-            }
-        }
-        if (end < width) {
-            char ch = schemaLines[row].charAt(end);
-            if (isSymbol(ch)) {
-                symbols.add(new AdjacentSymbol(row, end, ch));
+                gearRatioSum += labels.gearRatio(index);
             }
         }
-        return symbols;
-    }
-
-    private boolean isSymbol(char ch) {
-        return !isDigit(ch) && ch != '.';
+        return new Sums(partNumberSum, gearRatioSum);
     }
 
     public static void main(String[] args) {
         var input = loadInput("day03-input.txt");
-        var gearRatios = new GearRatios(input);
+        var gearRatios = new GearRatios(input, ForkJoinPool.commonPool());
         System.out.printf("Part 1: %d\n", gearRatios.part1());
         System.out.printf("Part 2: %d\n", gearRatios.part2());
     }
@@ -0,0 +1,97 @@
+package nl.mout.aoc2023.day03;
+
+import nl.mout.aoc2023.support.Grid;
+
+class NumberLabels {
+
+    private final Grid grid;
+    private final int[] labels;
+    private final int[] values;
+
+    NumberLabels(Grid grid) {
+        this.grid = grid;
+        this.labels = new int[grid.size()];
+        this.values = new int[grid.size()];
+    }
+
+    void labelRows(int fromRow, int toRow) {
+        for (var row = fromRow; row < toRow; row++) {
+            var rowStart = grid.index(row, 0);
+            labelRange(rowStart, rowStart + grid.width());
+        }
+    }
+
+    void labelRange(int from, int to) {
+        for (var index = from; index < to; index++) {
+            labels[index] = 0;
+        }
+        var index = from;
+        while (index < to) {
+            if (isDigit(grid.get(index))) {
+                var start = index;
+                var number = 0;
+                for (; isDigit(grid.get(index)); index++) {
+                    number = number * 10 + (grid.get(index) - '0');
+                    labels[index] = start + 1;
+                }
+                values[start] = number;
+            } else {
+                index++;
+            }
+        }
+    }
+
+    boolean isNumberStart(int index) {
+        return labels[index] == index + 1;
+    }
+
+    int numberStartAt(int index) {
+        return labels[index] - 1;
+    }
+
+    int numberEnd(int start) {
+        var end = start + 1;
+        while (labels[end] == start + 1) {
+            end++;
+        }
+        return end;
+    }
+
+    long partNumber(int start) {
+        var end = numberEnd(start);
+        var stride = grid.stride();
+        for (var index = start - 1; index <= end; index++) {
+            if (isSymbol(grid.get(index - stride)) || isSymbol(grid.get(index + stride))) {
+                return values[start];
+            }
+        }
+        return (isSymbol(grid.get(start - 1)) || isSymbol(grid.get(end))) ? values[start] : 0;
+    }
+
+    long gearRatio(int index) {
+        if (grid.get(index) != '*') {
+            return 0;
+        }
+        int first = 0, second = 0, count = 0;
+        for (var offset : grid.neighbours8()) {
+            var label = labels[index + offset];
+            if (label != 0 && label != first && label != second) {
+                count++;
+                if (first == 0) {
+                    first = label;
+                } else {
+                    second = label;
+                }
+            }
+        }
+        return count == 2 ? (long) values[first - 1] * values[second - 1] : 0;
+    }
+
+    private static boolean isDigit(byte b) {
+        return '0' <= b && b <= '9';
+    }
+
+    private static boolean isSymbol(byte b) {
+        return !isDigit(b) && b != '.';
+    }
+}
@@ -0,0 +1,153 @@
+package nl.mout.aoc2023.day03;
+
+import nl.mout.aoc2023.support.Grid;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Arrays.copyOf;
+
+public class Schematic {
+
+    private final Grid grid;
+    private final NumberLabels labels;
+    private final IndexSet numbers = new IndexSet();
+    private final IndexSet gears = new IndexSet();
+    private long partNumberSum;
+    private long gearRatioSum;
+
+    public Schematic(String input) {
+        grid = Grid.of(input, (byte) '.');
+        labels = new NumberLabels(grid);
+        labels.labelRows(0, grid.height());
+        for (var row = 0; row < grid.height(); row++) {
+            for (var index = grid.index(row, 0); index < grid.index(row, grid.width()); index++) {
+                if (labels.isNumberStart(index)) {
+                    partNumberSum += labels.partNumber(index);
+                }
+                gearRatioSum += labels.gearRatio(index);
+            }
+        }
+    }
+
+    public long partNumberSum() {
+        return partNumberSum;
+    }
+
+    public long gearRatioSum() {
+        return gearRatioSum;
+    }
+
+    public char getCell(int row, int column) {
+        return (char) grid.get(checkedIndex(row, column));
+    }
+
+    public void setCell(int row, int column, char ch) {
+        var index = checkedIndex(row, column);
+        if (grid.get(index) == ch) {
+            return;
+        }
+
+        collectNumbers(index);
+        gears.clear();
+        gears.add(index);
+        collectGears(index - 1, index + 1);
+        var from = index;
+        var to = index + 1;
+        for (var i = 0; i < numbers.size(); i++) {
+            var start = numbers.get(i);
+            var end = labels.numberEnd(start);
+            collectGears(start - 1, end);
+            partNumberSum -= labels.partNumber(start);
+            if (grid.row(start) == row) {
+                from = min(from, start);
+                to = max(to, end);
+            }
+        }
+        for (var i = 0; i < gears.size(); i++) {
+            gearRatioSum -= labels.gearRatio(gears.get(i));
+        }
+
+        grid.set(index, (byte) ch);
+        labels.labelRange(from, to);
+
+        collectNumbers(index);
+        for (var i = 0; i < numbers.size(); i++) {
+            partNumberSum += labels.partNumber(numbers.get(i));
+        }
+        for (var i = 0; i < gears.size(); i++) {
+            gearRatioSum += labels.gearRatio(gears.get(i));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return grid.toString();
+    }
+
+    private int checkedIndex(int row, int column) {
+        if (row < 0 || row >= grid.height() || column < 0 || column >= grid.width()) {
+            throw new IndexOutOfBoundsException("Cell outside schematic: (%d, %d)".formatted(row, column));
+        }
+        return grid.index(row, column);
+    }
+
+    private void collectNumbers(int index) {
+        numbers.clear();
+        addIfNumber(index);
+        for (var offset : grid.neighbours8()) {
+            addIfNumber(index + offset);
+        }
+    }
+
+    private void addIfNumber(int index) {
+        var start = labels.numberStartAt(index);
+        if (start >= 0) {
+            numbers.add(start);
+        }
+    }
+
+    private void collectGears(int from, int to) {
+        var stride = grid.stride();
+        for (var index = from; index <= to; index++) {
+            addIfGear(index - stride);
+            addIfGear(index);
+            addIfGear(index + stride);
+        }
+    }
+
+    private void addIfGear(int index) {
+        if (grid.get(index) == '*') {
+            gears.add(index);
+        }
+    }
+
+    private static class IndexSet {
+
+        private int[] indices = new int[16];
+        private int size;
+
+        void add(int index) {
+            for (var i = 0; i < size; i++) {
+                if (indices[i] == index) {
+                    return;
+                }
+            }
+            if (size == indices.length) {
+                indices = copyOf(indices, size * 2);
+            }
+            indices[size++] = index;
+        }
+
+        int get(int i) {
+            return indices[i];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package nl.mout.aoc2023.day04;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+import static java.lang.Math.max;
+
+public class CardAggregator {
+
+    private long[] pendingCopies = new long[16];
+    private int position;
+    private long copies;
+
+    private long pointSum;
+    private long cardCount;
+    private long originalCount;
+
+    public long pointSum() {
+        return pointSum;
+    }
+
+    public long cardCount() {
+        return cardCount;
+    }
+
+    public long originalCount() {
+        return originalCount;
+    }
+
+    public void accept(CharSequence line) {
+        if (!isBlank(line)) {
+            acceptMatches(Scratchcards.matchingNumberCount(line, 0, line.length()));
+        }
+    }
+
+    public void consume(Reader reader) throws IOException {
+        var lines = new BufferedReader(reader);
+        for (var line = lines.readLine(); line != null; line = lines.readLine()) {
+            accept(line);
+        }
+    }
+
+    public void acceptMatches(int matchingNumberCount) {
+        if (matchingNumberCount + 2 > pendingCopies.length) {
+            grow(matchingNumberCount + 2);
+        }
+        copies += pendingCopies[position];
+        pendingCopies[position] = 0;
+        var instances = copies + 1;
+
+        if (matchingNumberCount > 0) {
+            pendingCopies[slot(1)] += instances;
+            pendingCopies[slot(matchingNumberCount + 1)] -= instances;
+        }
+        position = slot(1);
+
+        pointSum += Scratchcards.points(matchingNumberCount);
+        cardCount += instances;
+        originalCount++;
+    }
+
+    private static boolean isBlank(CharSequence line) {
+        for (var i = 0; i < line.length(); i++) {
+            if (!Character.isWhitespace(line.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int slot(int offset) {
+        return (position + offset) % pendingCopies.length;
+    }
+
+    private void grow(int minimumLength) {
+        var grown = new long[max(minimumLength, pendingCopies.length * 2)];
+        for (var i = 0; i < pendingCopies.length; i++) {
+            grown[i] = pendingCopies[slot(i)];
+        }
+        pendingCopies = grown;
+        position = 0;
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day04;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day04Solver implements Solver<Scratchcards> {
+
+    @Override
+    public int day() {
+        return 4;
+    }
+
+    @Override
+    public Scratchcards parse(String input) {
+        return new Scratchcards(input);
+    }
+
+    @Override
+    public Object part1(Scratchcards puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(Scratchcards puzzle) {
+        return puzzle.part2();
+    }
+}
@@ -1,66 +1,93 @@
 package nl.mout.aoc2023.day04;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import nl.mout.aoc2023.support.InputBuffer;
 
-import static java.lang.Integer.parseInt;
-import static java.lang.Math.pow;
-import static java.lang.Math.round;
-import static java.util.Arrays.fill;
-import static java.util.Arrays.stream;
-import static java.util.stream.Collectors.toSet;
-import static nl.mout.aoc2023.support.InputLoader.loadInput;
+import static nl.mout.aoc2023.support.InputLoader.mapInput;
 
 public class Scratchcards {
 
-    private final Map<Integer, Integer> matchingNumberCountById;
+    private static final int MAX_NUMBER = 127;
+
+    private final int[] matchingNumberCounts;
+    private int size;
 
     public Scratchcards(String input) {
-        this.matchingNumberCountById = parseInput(input);
+        this(InputBuffer.of(input));
     }
 
-    public int part1() {
-        return matchingNumberCountById.values().stream()
-                .mapToInt(count -> count == 0 ? 0 : (int) round(pow(2, count - 1)))
-                .sum();
+    public Scratchcards(InputBuffer input) {
+        this.matchingNumberCounts = new int[input.nonBlankLineCount()];
+        input.forEachLine(this::parseLine);
     }
 
-    public int part2() {
-        var countPerCard = new int[matchingNumberCountById.size() + 1];
-        fill(countPerCard, 1);
+    public int part1() {
+        var sum = 0;
+        for (var i = 0; i < size; i++) {
+            sum += points(matchingNumberCounts[i]);
+        }
+        return sum;
+    }
 
-        var total = 0;
-        for (var i = 1; i <= matchingNumberCountById.size(); i++) {
-            total += countPerCard[i];
-            for (var j = i + 1; j <= i + matchingNumberCountById.get(i); j++) {
-                countPerCard[j] += countPerCard[i];
-            }
+    public long part2() {
+        var aggregator = new CardAggregator();
+        for (var i = 0; i < size; i++) {
+            aggregator.acceptMatches(matchingNumberCounts[i]);
         }
-        return total;
+        return aggregator.cardCount();
+    }
+
+    static int points(int matchingNumberCount) {
+        return (matchingNumberCount == 0) ? 0 : 1 << (matchingNumberCount - 1);
     }
 
-    private Map<Integer, Integer> parseInput(String input) {
-        var result = new HashMap<Integer, Integer>();
-        input.lines().forEach(line -> {
-            var parts = line.split("[:|]");
-            var cardId = parseInt(parts[0].split("\\s+")[1]);
-            var winningNumbers = parseNumberSequence(parts[1]);
-            var haveNumbers = parseNumberSequence(parts[2]);
-            var matchingNumberCount = (int) haveNumbers.stream().filter(winningNumbers::contains).count();
-            result.put(cardId, matchingNumberCount);
-        });
-        return result;
+    private void parseLine(InputBuffer input, int start, int end) {
+        if (!input.isBlank(start, end)) {
+            matchingNumberCounts[size++] = matchingNumberCount(input, start, end);
+        }
     }
 
-    private Set<Integer> parseNumberSequence(String part) {
-        return stream(part.trim().split("\\s+"))
-                .map(Integer::parseInt)
-                .collect(toSet());
+    static int matchingNumberCount(CharSequence line, int start, int end) {
+        var i = start;
+        while (i < end && line.charAt(i) != ':') {
+            i++;
+        }
+        if (i == end) {
+            throw new IllegalArgumentException("Missing card header: " + line.subSequence(start, end));
+        }
+
+        long winningLow = 0, winningHigh = 0, matchesLow = 0, matchesHigh = 0;
+        var afterSeparator = false;
+        var number = -1;
+        for (i++; i <= end; i++) {
+            var ch = (i < end) ? line.charAt(i) : ' ';
+            if ('0' <= ch && ch <= '9') {
+                number = (number < 0 ? 0 : number * 10) + (ch - '0');
+                continue;
+            }
+            if (number >= 0) {
+                if (number > MAX_NUMBER) {
+                    throw new IllegalArgumentException("Card number out of range: " + number);
+                }
+                var low = number < 64 ? 1L << number : 0L;
+                var high = number < 64 ? 0L : 1L << (number - 64);
+                if (afterSeparator) {
+                    matchesLow |= low;
+                    matchesHigh |= high;
+                } else {
+                    winningLow |= low;
+                    winningHigh |= high;
+                }
+                number = -1;
+            }
+            if (ch == '|') {
+                afterSeparator = true;
+            }
+        }
+        return Long.bitCount(winningLow & matchesLow) + Long.bitCount(winningHigh & matchesHigh);
     }
 
     public static void main(String[] args) {
-        var input = loadInput("day04-input.txt");
+        var input = mapInput("day04-input.txt");
         var scratchcards = new Scratchcards(input);
         System.out.printf("Part 1: %d\n", scratchcards.part1());
         System.out.printf("Part 2: %d\n", scratchcards.part2());
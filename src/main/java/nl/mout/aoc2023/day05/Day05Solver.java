@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day05;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day05Solver implements Solver<Seed> {
+
+    @Override
+    public int day() {
+        return 5;
+    }
+
+    @Override
+    public Seed parse(String input) {
+        return new Seed(input);
+    }
+
+    @Override
+    public Object part1(Seed puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(Seed puzzle) {
+        return puzzle.part2();
+    }
+}
@@ -0,0 +1,111 @@
+package nl.mout.aoc2023.day05;
+
+import java.util.NoSuchElementException;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Arrays.copyOf;
+
+class IntervalSet {
+
+    private long[] froms;
+    private long[] tos;
+    private int size;
+
+    IntervalSet() {
+        this(16);
+    }
+
+    private IntervalSet(int capacity) {
+        froms = new long[max(1, capacity)];
+        tos = new long[max(1, capacity)];
+    }
+
+    void add(long from, long to) {
+        if (from >= to) {
+            return;
+        }
+        if (size == froms.length) {
+            froms = copyOf(froms, size * 2);
+            tos = copyOf(tos, size * 2);
+        }
+        froms[size] = from;
+        tos[size++] = to;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long from(int index) {
+        return froms[index];
+    }
+
+    long to(int index) {
+        return tos[index];
+    }
+
+    long lowest() {
+        if (size == 0) {
+            throw new NoSuchElementException("Interval set is empty");
+        }
+        return froms[0];
+    }
+
+    IntervalSet coalesce() {
+        sort(froms, tos, new long[size], new long[size], 0, size);
+        var merged = 0;
+        for (var i = 0; i < size; i++) {
+            if (merged > 0 && froms[i] <= tos[merged - 1]) {
+                tos[merged - 1] = max(tos[merged - 1], tos[i]);
+            } else {
+                froms[merged] = froms[i];
+                tos[merged++] = tos[i];
+            }
+        }
+        size = merged;
+        return this;
+    }
+
+    IntervalSet map(PiecewiseLinearMap map) {
+        var result = new IntervalSet(size + map.size());
+        var segment = 0;
+        for (var i = 0; i < size; i++) {
+            var from = froms[i];
+            var to = tos[i];
+            while (segment + 1 < map.size() && map.breakpoint(segment + 1) <= from) {
+                segment++;
+            }
+            for (var j = segment; j < map.size() && (j == segment || map.breakpoint(j) < to); j++) {
+                var start = max(from, map.breakpoint(j));
+                var end = (j + 1 < map.size()) ? min(to, map.breakpoint(j + 1)) : to;
+                result.add(start + map.offset(j), end + map.offset(j));
+            }
+        }
+        return result.coalesce();
+    }
+
+    private static void sort(long[] froms, long[] tos, long[] fromBuffer, long[] toBuffer, int start, int end) {
+        if (end - start < 2) {
+            return;
+        }
+        var middle = (start + end) >>> 1;
+        sort(froms, tos, fromBuffer, toBuffer, start, middle);
+        sort(froms, tos, fromBuffer, toBuffer, middle, end);
+        if (froms[middle - 1] <= froms[middle]) {
+            return;
+        }
+        System.arraycopy(froms, start, fromBuffer, start, end - start);
+        System.arraycopy(tos, start, toBuffer, start, end - start);
+        int left = start, right = middle;
+        for (var i = start; i < end; i++) {
+            if (right >= end || (left < middle && fromBuffer[left] <= fromBuffer[right])) {
+                froms[i] = fromBuffer[left];
+                tos[i] = toBuffer[left++];
+            } else {
+                froms[i] = fromBuffer[right];
+                tos[i] = toBuffer[right++];
+            }
+        }
+    }
+}
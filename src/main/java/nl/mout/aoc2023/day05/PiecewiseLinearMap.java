@@ -0,0 +1,110 @@
+package nl.mout.aoc2023.day05;
+
+import java.util.Arrays;
+
+import static java.lang.Math.max;
+import static java.util.Arrays.copyOf;
+
+class PiecewiseLinearMap {
+
+    private static final PiecewiseLinearMap IDENTITY = new PiecewiseLinearMap(new long[]{0}, new long[]{0}, 1);
+
+    private final long[] breakpoints;
+    private final long[] offsets;
+    private final int size;
+
+    private PiecewiseLinearMap(long[] breakpoints, long[] offsets, int size) {
+        this.breakpoints = breakpoints;
+        this.offsets = offsets;
+        this.size = size;
+    }
+
+    static PiecewiseLinearMap identity() {
+        return IDENTITY;
+    }
+
+    static PiecewiseLinearMap of(long[] sourceStarts, long[] destStarts, long[] lengths) {
+        var order = new Integer[sourceStarts.length];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (a, b) -> Long.compare(sourceStarts[a], sourceStarts[b]));
+
+        var builder = new Builder(2 * sourceStarts.length + 1);
+        var end = 0L;
+        for (var i : order) {
+            if (sourceStarts[i] > end) {
+                builder.add(end, 0);
+            }
+            builder.add(sourceStarts[i], destStarts[i] - sourceStarts[i]);
+            end = sourceStarts[i] + lengths[i];
+        }
+        builder.add(end, 0);
+        return builder.build();
+    }
+
+    long apply(long value) {
+        return value + offsets[segment(value)];
+    }
+
+    PiecewiseLinearMap andThen(PiecewiseLinearMap next) {
+        var builder = new Builder(size + next.size);
+        for (var i = 0; i < size; i++) {
+            var offset = offsets[i];
+            var from = breakpoints[i] + offset;
+            var to = (i + 1 < size) ? breakpoints[i + 1] + offset : Long.MAX_VALUE;
+            var j = next.segment(from);
+            do {
+                builder.add(max(from, next.breakpoints[j]) - offset, offset + next.offsets[j]);
+                j++;
+            } while (j < next.size && next.breakpoints[j] < to);
+        }
+        return builder.build();
+    }
+
+    int size() {
+        return size;
+    }
+
+    long breakpoint(int segment) {
+        return breakpoints[segment];
+    }
+
+    long offset(int segment) {
+        return offsets[segment];
+    }
+
+    private int segment(long value) {
+        var index = Arrays.binarySearch(breakpoints, 0, size, value);
+        return (index >= 0) ? index : max(0, -index - 2);
+    }
+
+    private static class Builder {
+
+        private long[] breakpoints;
+        private long[] offsets;
+        private int size;
+
+        Builder(int capacity) {
+            breakpoints = new long[max(1, capacity)];
+            offsets = new long[max(1, capacity)];
+        }
+
+        void add(long breakpoint, long offset) {
+            if (size > 0 && breakpoints[size - 1] == breakpoint) {
+                size--;
+            }
+            if (size > 0 && offsets[size - 1] == offset) {
+                return;
+            }
+            if (size == breakpoints.length) {
+                breakpoints = copyOf(breakpoints, size * 2);
+                offsets = copyOf(offsets, size * 2);
+            }
+            breakpoints[size] = breakpoint;
+            offsets[size++] = offset;
+        }
+
+        PiecewiseLinearMap build() {
+            return new PiecewiseLinearMap(breakpoints, offsets, size);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package nl.mout.aoc2023.day05;
 
-import java.util.*;
+import nl.mout.aoc2023.support.RangeSplitter;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
+import java.util.stream.LongStream;
 
 import static java.lang.Long.parseLong;
-import static java.lang.Math.max;
 import static java.lang.Math.min;
 import static java.util.Arrays.stream;
 import static java.util.stream.IntStream.range;
@@ -12,118 +16,108 @@ import static nl.mout.aoc2023.support.InputLoader.loadInput;
 
 public class Seed {
 
-    private List<Long> seeds;
-    private List<MappingTable> mappingTables;
+    private static final int BATCH_SIZE = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private long[] seeds;
+    private List<PiecewiseLinearMap> mappingTables;
+    private PiecewiseLinearMap seedToLocation;
 
     public Seed(String input) {
+        this(input, null);
+    }
+
+    public Seed(String input, ForkJoinPool pool) {
+        this.pool = pool;
         parse(input);
     }
 
     public long part1() {
-        return seeds.stream().mapToLong(seed -> {
-            var current = seed;
-            for (var mappingTable : mappingTables) {
-                current = findDestination(current, mappingTable);
-            }
-            return current;
-        }).min().orElseThrow();
+        return lowestLocation(seeds);
     }
 
     public long part2() {
-        Deque<Interval> intervals = getSeedIntervals();
+        var intervals = getSeedIntervals();
         for (var mappingTable : mappingTables) {
-            intervals = calculateNextIntervals(mappingTable, intervals);
+            intervals = intervals.map(mappingTable);
+        }
+        return intervals.lowest();
+    }
+
+    public long[] locations(long[] seeds) {
+        var locations = new long[seeds.length];
+        lookup(seeds, locations);
+        return locations;
+    }
+
+    public long lowestLocation(long[] seeds) {
+        if (seeds.length == 0) {
+            throw new NoSuchElementException("No seeds given");
         }
-        return intervals.stream().mapToLong(interval -> interval.from).min().orElseThrow();
+        return lookup(seeds, null);
     }
 
-    private record Interval(long from, long to) {
+    public LongStream locations(LongStream seeds) {
+        return seeds.map(seedToLocation::apply);
     }
 
-    private record Mapping(long destStart, long sourceStart, long length) {
+    public long lowestLocation(LongStream seeds) {
+        return locations(seeds).min().orElseThrow();
     }
 
-    private record MappingTable(List<Mapping> mappings) {
+    private long lookup(long[] seeds, long[] locations) {
+        return RangeSplitter.scan(pool, 0, seeds.length, BATCH_SIZE, RangeSplitter.MIDPOINT,
+                (from, to) -> lookup(seeds, locations, from, to), Math::min);
+    }
+
+    private long lookup(long[] seeds, long[] locations, int from, int to) {
+        var lowest = Long.MAX_VALUE;
+        for (var i = from; i < to; i++) {
+            var location = seedToLocation.apply(seeds[i]);
+            if (locations != null) {
+                locations[i] = location;
+            }
+            lowest = min(lowest, location);
+        }
+        return lowest;
     }
 
     private void parse(String input) {
         var fragments = input.split("\n\n");
         this.seeds = Pattern.compile("(\\d+)").matcher(fragments[0]).results()
-                .map(matchResult -> parseLong(matchResult.group(1)))
-                .toList();
+                .mapToLong(matchResult -> parseLong(matchResult.group(1)))
+                .toArray();
         this.mappingTables = range(1, fragments.length)
                 .mapToObj(i -> parseMappingTable(fragments[i]))
                 .toList();
+        this.seedToLocation = mappingTables.stream()
+                .reduce(PiecewiseLinearMap.identity(), PiecewiseLinearMap::andThen);
     }
 
-    private MappingTable parseMappingTable(String fragment) {
+    private PiecewiseLinearMap parseMappingTable(String fragment) {
         var mappings = fragment.lines()
                 .skip(1)
                 .map(this::parseMapping)
                 .toList();
-        return new MappingTable(mappings);
+        return PiecewiseLinearMap.of(
+                mappings.stream().mapToLong(mapping -> mapping[1]).toArray(),
+                mappings.stream().mapToLong(mapping -> mapping[0]).toArray(),
+                mappings.stream().mapToLong(mapping -> mapping[2]).toArray()
+        );
     }
 
-    private Mapping parseMapping(String line) {
-        var numbers = stream(line.split("\\s+"))
+    private long[] parseMapping(String line) {
+        return stream(line.split("\\s+"))
                 .mapToLong(Long::parseLong)
                 .toArray();
-        return new Mapping(numbers[0], numbers[1], numbers[2]);
-    }
-
-    private Deque<Interval> calculateNextIntervals(MappingTable mappingTable, Deque<Interval> intervals) {
-        var nextIntervals = new LinkedList<Interval>();
-        while (!intervals.isEmpty()) {
-            var interval = intervals.pop();
-            var matchFound = false;
-            for (var mapping : mappingTable.mappings) {
-                var overlappingInterval = new Interval(
-                        max(mapping.sourceStart, interval.from),
-                        min(mapping.sourceStart + mapping.length, interval.to)
-                );
-                if (overlappingInterval.from < overlappingInterval.to) {
-                    matchFound = true;
-                    nextIntervals.push(new Interval(
-                            getDestination(overlappingInterval.from, mapping),
-                            getDestination(overlappingInterval.to, mapping)
-                    ));
-                    if (interval.from < overlappingInterval.from) {
-                        intervals.push(new Interval(interval.from, overlappingInterval.from));
-                    }
-                    if (overlappingInterval.to < interval.to) {
-                        intervals.push(new Interval(overlappingInterval.to, interval.to));
-                    }
-                }
-            }
-            if (!matchFound) {
-                nextIntervals.push(interval);
-            }
-        }
-        return nextIntervals;
     }
 
-    private Deque<Interval> getSeedIntervals() {
-        var intervals = new LinkedList<Interval>();
-        for (var i = 0; i < seeds.size(); i += 2) {
-            intervals.push(new Interval(seeds.get(i), seeds.get(i) + seeds.get(i + 1)));
+    private IntervalSet getSeedIntervals() {
+        var intervals = new IntervalSet();
+        for (var i = 0; i < seeds.length; i += 2) {
+            intervals.add(seeds[i], seeds[i] + seeds[i + 1]);
         }
-        return intervals;
-    }
-
-    private long findDestination(long value, MappingTable mappingTable) {
-        return mappingTable.mappings.stream()
-                .filter(mapping -> isInRange(value, mapping))
-                .findFirst()
-                .map(mapping -> getDestination(value, mapping))
-                .orElse(value);
-    }
-
-    private boolean isInRange(long value, Mapping mapping) {
-        return mapping.sourceStart <= value && value < mapping.sourceStart + mapping.length;
-    }
-
-    private long getDestination(long value, Mapping mapping) {
-        return mapping.destStart + (value - mapping.sourceStart);
+        return intervals.coalesce();
     }
 
     public static void main(String[] args) {
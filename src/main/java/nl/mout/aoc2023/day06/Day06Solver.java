@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day06;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day06Solver implements Solver<WaitForIt> {
+
+    @Override
+    public int day() {
+        return 6;
+    }
+
+    @Override
+    public WaitForIt parse(String input) {
+        return new WaitForIt(input);
+    }
+
+    @Override
+    public Object part1(WaitForIt puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(WaitForIt puzzle) {
+        return puzzle.part2();
+    }
+}
@@ -1,48 +1,153 @@
 package nl.mout.aoc2023.day06;
 
-import java.util.List;
+import nl.mout.aoc2023.support.RangeSplitter;
 
-import static java.util.stream.LongStream.iterate;
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.lang.Long.parseLong;
+import static java.math.BigInteger.ONE;
+import static java.math.BigInteger.TWO;
+import static java.math.BigInteger.ZERO;
+import static java.util.Arrays.stream;
+import static nl.mout.aoc2023.support.InputLoader.loadInput;
 
 public class WaitForIt {
 
-    public long part1(List<Race> races) {
-        return races.stream()
-                .mapToLong(this::countSuccessfulAttempt)
-                .reduce(1L, (a, b) -> a * b);
+    private static final int BATCH_SIZE = 1 << 14;
+    private static final long MAX_EXACT_TIME = 3037000499L;
+
+    private final ForkJoinPool pool;
+    private final long[] times;
+    private final long[] distances;
+    private final long time;
+    private final long distance;
+
+    public WaitForIt(String input) {
+        this(input, null);
+    }
+
+    public WaitForIt(String input, ForkJoinPool pool) {
+        var lines = input.lines().toList();
+        this.pool = pool;
+        this.times = parseNumbers(lines.get(0));
+        this.distances = parseNumbers(lines.get(1));
+        this.time = parseKerned(lines.get(0));
+        this.distance = parseKerned(lines.get(1));
+    }
+
+    public long part1() {
+        return successfulAttemptProduct(times, distances);
+    }
+
+    public long part2() {
+        return countSuccessfulAttempts(time, distance);
+    }
+
+    public long[] successfulAttemptCounts(long[] times, long[] distances) {
+        var counts = new long[checkedLength(times, distances)];
+        evaluate(times, distances, counts, counts.length);
+        return counts;
+    }
+
+    public long successfulAttemptProduct(long[] times, long[] distances) {
+        return evaluate(times, distances, null, checkedLength(times, distances));
     }
 
-    public long part2(Race race) {
-        return countSuccessfulAttempt(race);
+    public static long countSuccessfulAttempts(long time, long distance) {
+        if (0 <= time && time <= MAX_EXACT_TIME && 0 <= distance && distance <= Long.MAX_VALUE / 4) {
+            return countExactly(time, distance);
+        }
+        return countSuccessfulAttempts(BigInteger.valueOf(time), BigInteger.valueOf(distance)).longValueExact();
     }
 
-    public record Race(long time, long distance) {
+    public static BigInteger countSuccessfulAttempts(BigInteger time, BigInteger distance) {
+        var discriminant = time.multiply(time).subtract(distance.shiftLeft(2));
+        if (discriminant.signum() < 0) {
+            return ZERO;
+        }
+        var root = discriminant.sqrt();
+        var half = time.shiftRight(1);
+        var start = time.subtract(root).shiftRight(1).max(ZERO);
+        while (start.compareTo(half) <= 0 && calculateDistance(time, start).compareTo(distance) <= 0) {
+            start = start.add(ONE);
+        }
+        while (start.signum() > 0 && calculateDistance(time, start.subtract(ONE)).compareTo(distance) > 0) {
+            start = start.subtract(ONE);
+        }
+        var count = time.subtract(start.multiply(TWO)).add(ONE);
+        return count.max(ZERO);
     }
 
-    private long countSuccessfulAttempt(Race race) {
-        var start = iterate(2, buttonTime -> buttonTime + 1)
-                .filter(buttonTime -> calculateDistance(race.time, buttonTime) > race.distance)
-                .findFirst().orElseThrow();
-        var end = race.time - start;
-        return (end - start) + 1;
+    private long evaluate(long[] times, long[] distances, long[] counts, int length) {
+        return RangeSplitter.scan(pool, 0, length, BATCH_SIZE, RangeSplitter.MIDPOINT,
+                (from, to) -> evaluate(times, distances, counts, from, to), (lower, upper) -> lower * upper);
     }
 
-    private long calculateDistance(long raceTime, long buttonTime) {
+    private static long evaluate(long[] times, long[] distances, long[] counts, int from, int to) {
+        var product = 1L;
+        for (var i = from; i < to; i++) {
+            var count = countSuccessfulAttempts(times[i], distances[i]);
+            if (counts != null) {
+                counts[i] = count;
+            }
+            product *= count;
+        }
+        return product;
+    }
+
+    private static int checkedLength(long[] times, long[] distances) {
+        if (times.length != distances.length) {
+            throw new IllegalArgumentException("Got %d times but %d distances".formatted(times.length, distances.length));
+        }
+        return times.length;
+    }
+
+    private static long[] parseNumbers(String line) {
+        return stream(line.substring(line.indexOf(':') + 1).trim().split("\\s+"))
+                .mapToLong(Long::parseLong)
+                .toArray();
+    }
+
+    private static long parseKerned(String line) {
+        return parseLong(line.substring(line.indexOf(':') + 1).replace(" ", ""));
+    }
+
+    private static long countExactly(long time, long distance) {
+        var discriminant = time * time - 4 * distance;
+        if (discriminant < 0) {
+            return 0;
+        }
+        var root = (long) Math.sqrt(discriminant);
+        while (root > 0 && root > discriminant / root) {
+            root--;
+        }
+        while (root + 1 <= discriminant / (root + 1)) {
+            root++;
+        }
+        var half = time / 2;
+        var start = Math.max(0, (time - root) / 2);
+        while (start <= half && calculateDistance(time, start) <= distance) {
+            start++;
+        }
+        while (start > 0 && calculateDistance(time, start - 1) > distance) {
+            start--;
+        }
+        return Math.max(0, time - 2 * start + 1);
+    }
+
+    private static long calculateDistance(long raceTime, long buttonTime) {
         return (raceTime - buttonTime) * buttonTime;
     }
 
+    private static BigInteger calculateDistance(BigInteger raceTime, BigInteger buttonTime) {
+        return raceTime.subtract(buttonTime).multiply(buttonTime);
+    }
+
     public static void main(String[] args) {
-        var waitForIt = new WaitForIt();
-
-        var inputPart1 = List.of(
-                new Race(40, 233),
-                new Race(82, 1011),
-                new Race(84, 1110),
-                new Race(92, 1487)
-        );
-        System.out.printf("Part 1: %d\n", waitForIt.part1(inputPart1));
-
-        var inputPart2 = new Race(40828492, 233101111101487L);
-        System.out.printf("Part 2: %d\n", waitForIt.part2(inputPart2));
+        var input = loadInput("day06-input.txt");
+        var waitForIt = new WaitForIt(input);
+        System.out.printf("Part 1: %d\n", waitForIt.part1());
+        System.out.printf("Part 2: %d\n", waitForIt.part2());
     }
 }
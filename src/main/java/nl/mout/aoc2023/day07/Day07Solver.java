@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day07;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day07Solver implements Solver<CamelCards> {
+
+    @Override
+    public int day() {
+        return 7;
+    }
+
+    @Override
+    public CamelCards parse(String input) {
+        return new CamelCards(input);
+    }
+
+    @Override
+    public Object part1(CamelCards puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(CamelCards puzzle) {
+        return puzzle.part2();
+    }
+}
@@ -0,0 +1,106 @@
+package nl.mout.aoc2023.day07;
+
+import nl.mout.aoc2023.day07.CamelCards.HandType;
+
+import static java.util.Arrays.fill;
+import static nl.mout.aoc2023.day07.CamelCards.HandType.*;
+
+class HandClassifier {
+
+    static final int HAND_SIZE = 5;
+    static final int CARD_BITS = 4;
+    static final int KEY_BITS = HAND_SIZE * CARD_BITS + 3;
+
+    static final int LABEL_COUNT = 13;
+    static final String LABELS_WITHOUT_JOKER = "23456789TJQKA";
+    static final String LABELS_WITH_JOKER = "J23456789TQKA";
+
+    private static final int JOKER_RANK = 0;
+    private static final int[] RANKS_WITHOUT_JOKER = ranks(LABELS_WITHOUT_JOKER);
+    private static final int[] RANKS_WITH_JOKER = ranks(LABELS_WITH_JOKER);
+    private static final HandType[] TYPES = typeTable();
+
+    private final int[] histogram = new int[LABEL_COUNT];
+
+    int key(CharSequence cards, boolean withJoker) {
+        var ranks = withJoker ? RANKS_WITH_JOKER : RANKS_WITHOUT_JOKER;
+        var key = 0;
+        for (var i = 0; i < HAND_SIZE; i++) {
+            key = (key << CARD_BITS) | ranks[cards.charAt(i)];
+        }
+        return (classify(cards, withJoker).ordinal() << (HAND_SIZE * CARD_BITS)) | key;
+    }
+
+    static int rank(char label, boolean withJoker) {
+        return (withJoker ? RANKS_WITH_JOKER : RANKS_WITHOUT_JOKER)[label];
+    }
+
+    static boolean isValid(CharSequence cards) {
+        if (cards.length() < HAND_SIZE) {
+            return false;
+        }
+        for (var i = 0; i < HAND_SIZE; i++) {
+            var label = cards.charAt(i);
+            if (label >= RANKS_WITHOUT_JOKER.length || RANKS_WITHOUT_JOKER[label] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    HandType classify(CharSequence cards, boolean withJoker) {
+        var ranks = withJoker ? RANKS_WITH_JOKER : RANKS_WITHOUT_JOKER;
+        fill(histogram, 0);
+        var jokerCount = 0;
+        for (var i = 0; i < HAND_SIZE; i++) {
+            var rank = ranks[cards.charAt(i)];
+            if (withJoker && rank == JOKER_RANK) {
+                jokerCount++;
+            } else {
+                histogram[rank]++;
+            }
+        }
+
+        int largest = 0, second = 0;
+        for (var count : histogram) {
+            if (count > largest) {
+                second = largest;
+                largest = count;
+            } else if (count > second) {
+                second = count;
+            }
+        }
+        return TYPES[signature(largest, second, jokerCount)];
+    }
+
+    private static int signature(int largest, int second, int jokerCount) {
+        return (largest * 3 + second) * (HAND_SIZE + 1) + jokerCount;
+    }
+
+    private static HandType[] typeTable() {
+        var types = new HandType[signature(HAND_SIZE, 2, HAND_SIZE) + 1];
+        for (var largest = 0; largest <= HAND_SIZE; largest++) {
+            for (var second = 0; second <= 2 && largest + second <= HAND_SIZE; second++) {
+                for (var jokerCount = 0; largest + second + jokerCount <= HAND_SIZE; jokerCount++) {
+                    types[signature(largest, second, jokerCount)] = switch (largest + jokerCount) {
+                        case 5 -> FIVE_OF_A_KIND;
+                        case 4 -> FOUR_OF_A_KIND;
+                        case 3 -> second == 2 ? FULL_HOUSE : THREE_OF_A_KIND;
+                        case 2 -> second == 2 ? TWO_PAIR : ONE_PAIR;
+                        default -> HIGH_CARD;
+                    };
+                }
+            }
+        }
+        return types;
+    }
+
+    private static int[] ranks(String labels) {
+        var ranks = new int[128];
+        fill(ranks, -1);
+        for (var i = 0; i < labels.length(); i++) {
+            ranks[labels.charAt(i)] = i;
+        }
+        return ranks;
+    }
+}
@@ -0,0 +1,44 @@
+package nl.mout.aoc2023.day07;
+
+import static java.util.Arrays.fill;
+
+class RadixSort {
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    static void sort(int[] keys, int[] values, int keyBits) {
+        var keyBuffer = new int[keys.length];
+        var valueBuffer = new int[values.length];
+        var counts = new int[RADIX];
+        int[] sourceKeys = keys, sourceValues = values, targetKeys = keyBuffer, targetValues = valueBuffer;
+
+        for (var shift = 0; shift < keyBits; shift += RADIX_BITS) {
+            fill(counts, 0);
+            for (var key : sourceKeys) {
+                counts[(key >>> shift) & (RADIX - 1)]++;
+            }
+            for (int digit = 0, offset = 0; digit < RADIX; digit++) {
+                var count = counts[digit];
+                counts[digit] = offset;
+                offset += count;
+            }
+            for (var i = 0; i < sourceKeys.length; i++) {
+                var position = counts[(sourceKeys[i] >>> shift) & (RADIX - 1)]++;
+                targetKeys[position] = sourceKeys[i];
+                targetValues[position] = sourceValues[i];
+            }
+
+            int[] swapKeys = sourceKeys, swapValues = sourceValues;
+            sourceKeys = targetKeys;
+            sourceValues = targetValues;
+            targetKeys = swapKeys;
+            targetValues = swapValues;
+        }
+
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, keys.length);
+            System.arraycopy(sourceValues, 0, values, 0, values.length);
+        }
+    }
+}
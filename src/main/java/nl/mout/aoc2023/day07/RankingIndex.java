@@ -0,0 +1,315 @@
+package nl.mout.aoc2023.day07;
+
+import java.nio.CharBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static nl.mout.aoc2023.day07.HandClassifier.HAND_SIZE;
+import static nl.mout.aoc2023.day07.HandClassifier.KEY_BITS;
+import static nl.mout.aoc2023.day07.HandClassifier.LABELS_WITHOUT_JOKER;
+import static nl.mout.aoc2023.day07.HandClassifier.LABELS_WITH_JOKER;
+import static nl.mout.aoc2023.day07.HandClassifier.LABEL_COUNT;
+
+public class RankingIndex {
+
+    private static final int HAND_COUNT = (int) Math.pow(LABEL_COUNT, HAND_SIZE);
+
+    private final Ranking withoutJoker = new Ranking(false);
+    private final Ranking withJoker = new Ranking(true);
+    private int size;
+
+    public void insertHand(String cards, int bid) {
+        checkCards(cards);
+        withoutJoker.insert(cards, bid);
+        withJoker.insert(cards, bid);
+        size++;
+    }
+
+    public boolean removeHand(String cards, int bid) {
+        checkCards(cards);
+        if (!withoutJoker.remove(cards, bid)) {
+            return false;
+        }
+        withJoker.remove(cards, bid);
+        size--;
+        return true;
+    }
+
+    public long totalWinnings() {
+        return withoutJoker.totalWinnings;
+    }
+
+    public long totalWinningsWithJoker() {
+        return withJoker.totalWinnings;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static void checkCards(String cards) {
+        if (cards.length() != HAND_SIZE || !HandClassifier.isValid(cards)) {
+            throw new IllegalArgumentException("Invalid hand: " + cards);
+        }
+    }
+
+    private static class Positions {
+
+        static final int[] WITHOUT_JOKER = positions(false);
+        static final int[] WITH_JOKER = positions(true);
+
+        private static int[] positions(boolean withJoker) {
+            var labels = withJoker ? LABELS_WITH_JOKER : LABELS_WITHOUT_JOKER;
+            var classifier = new HandClassifier();
+            var cards = new char[HAND_SIZE];
+            var keys = new int[HAND_COUNT];
+            var hands = new int[HAND_COUNT];
+            for (var hand = 0; hand < HAND_COUNT; hand++) {
+                for (int i = HAND_SIZE - 1, rest = hand; i >= 0; i--, rest /= LABEL_COUNT) {
+                    cards[i] = labels.charAt(rest % LABEL_COUNT);
+                }
+                keys[hand] = classifier.key(CharBuffer.wrap(cards), withJoker);
+                hands[hand] = hand;
+            }
+            RadixSort.sort(keys, hands, KEY_BITS);
+            var positions = new int[HAND_COUNT];
+            for (var position = 0; position < HAND_COUNT; position++) {
+                positions[hands[position]] = position;
+            }
+            return positions;
+        }
+    }
+
+    private static class Ranking {
+
+        private final boolean withJoker;
+        private final int[] positions;
+        private final int[] counts = new int[HAND_COUNT + 1];
+        private final long[] bidSums = new long[HAND_COUNT + 1];
+        private final Bids[] bidsByPosition = new Bids[HAND_COUNT];
+        private long bidSum;
+        private long totalWinnings;
+
+        Ranking(boolean withJoker) {
+            this.withJoker = withJoker;
+            this.positions = withJoker ? Positions.WITH_JOKER : Positions.WITHOUT_JOKER;
+        }
+
+        void insert(String cards, int bid) {
+            var position = position(cards);
+            var bids = bidsByPosition[position];
+            if (bids == null) {
+                bids = bidsByPosition[position] = new Bids();
+            }
+            var before = count(position) + bids.countAtMost(bid);
+            var after = (bidSum - bidSum(position + 1)) + bids.sumAbove(bid);
+            totalWinnings += (before + 1) * (long) bid + after;
+
+            bids.add(bid);
+            update(position, 1, bid);
+        }
+
+        boolean remove(String cards, int bid) {
+            var position = position(cards);
+            var bids = bidsByPosition[position];
+            if (bids == null || !bids.remove(bid)) {
+                return false;
+            }
+            update(position, -1, -bid);
+
+            var before = count(position) + bids.countAtMost(bid);
+            var after = (bidSum - bidSum(position + 1)) + bids.sumAbove(bid);
+            totalWinnings -= (before + 1) * (long) bid + after;
+            if (bids.isEmpty()) {
+                bidsByPosition[position] = null;
+            }
+            return true;
+        }
+
+        private int position(String cards) {
+            var hand = 0;
+            for (var i = 0; i < HAND_SIZE; i++) {
+                hand = hand * LABEL_COUNT + HandClassifier.rank(cards.charAt(i), withJoker);
+            }
+            return positions[hand];
+        }
+
+        private void update(int position, int count, long bid) {
+            bidSum += bid;
+            for (var i = position + 1; i <= HAND_COUNT; i += i & -i) {
+                counts[i] += count;
+                bidSums[i] += bid;
+            }
+        }
+
+        private int count(int end) {
+            var count = 0;
+            for (var i = end; i > 0; i -= i & -i) {
+                count += counts[i];
+            }
+            return count;
+        }
+
+        private long bidSum(int end) {
+            var sum = 0L;
+            for (var i = end; i > 0; i -= i & -i) {
+                sum += bidSums[i];
+            }
+            return sum;
+        }
+    }
+
+    private static class Bids {
+
+        private Node root;
+
+        int countAtMost(int bid) {
+            var count = 0;
+            for (var node = root; node != null; ) {
+                if (bid < node.bid) {
+                    node = node.left;
+                } else {
+                    count += size(node.left) + node.count;
+                    node = (bid == node.bid) ? null : node.right;
+                }
+            }
+            return count;
+        }
+
+        long sumAbove(int bid) {
+            var sum = 0L;
+            for (var node = root; node != null; ) {
+                if (bid < node.bid) {
+                    sum += sum(node.right) + (long) node.bid * node.count;
+                    node = node.left;
+                } else if (bid == node.bid) {
+                    sum += sum(node.right);
+                    node = null;
+                } else {
+                    node = node.right;
+                }
+            }
+            return sum;
+        }
+
+        void add(int bid) {
+            root = insert(root, bid);
+        }
+
+        boolean remove(int bid) {
+            if (!contains(bid)) {
+                return false;
+            }
+            root = delete(root, bid);
+            return true;
+        }
+
+        boolean isEmpty() {
+            return root == null;
+        }
+
+        private boolean contains(int bid) {
+            var node = root;
+            while (node != null && node.bid != bid) {
+                node = (bid < node.bid) ? node.left : node.right;
+            }
+            return node != null;
+        }
+
+        private static Node insert(Node node, int bid) {
+            if (node == null) {
+                return new Node(bid);
+            }
+            if (bid == node.bid) {
+                node.count++;
+            } else if (bid < node.bid) {
+                node.left = insert(node.left, bid);
+                if (node.left.priority > node.priority) {
+                    node = rotateRight(node);
+                }
+            } else {
+                node.right = insert(node.right, bid);
+                if (node.right.priority > node.priority) {
+                    node = rotateLeft(node);
+                }
+            }
+            node.update();
+            return node;
+        }
+
+        private static Node delete(Node node, int bid) {
+            if (bid < node.bid) {
+                node.left = delete(node.left, bid);
+            } else if (bid > node.bid) {
+                node.right = delete(node.right, bid);
+            } else if (node.count > 1) {
+                node.count--;
+            } else {
+                return merge(node.left, node.right);
+            }
+            node.update();
+            return node;
+        }
+
+        private static Node merge(Node lower, Node upper) {
+            if (lower == null) {
+                return upper;
+            }
+            if (upper == null) {
+                return lower;
+            }
+            if (lower.priority > upper.priority) {
+                lower.right = merge(lower.right, upper);
+                lower.update();
+                return lower;
+            }
+            upper.left = merge(lower, upper.left);
+            upper.update();
+            return upper;
+        }
+
+        private static Node rotateRight(Node node) {
+            var left = node.left;
+            node.left = left.right;
+            node.update();
+            left.right = node;
+            return left;
+        }
+
+        private static Node rotateLeft(Node node) {
+            var right = node.right;
+            node.right = right.left;
+            node.update();
+            right.left = node;
+            return right;
+        }
+
+        private static int size(Node node) {
+            return (node == null) ? 0 : node.size;
+        }
+
+        private static long sum(Node node) {
+            return (node == null) ? 0 : node.sum;
+        }
+
+        private static class Node {
+
+            private final int bid;
+            private final int priority = ThreadLocalRandom.current().nextInt();
+            private int count = 1;
+            private int size = 1;
+            private long sum;
+            private Node left;
+            private Node right;
+
+            Node(int bid) {
+                this.bid = bid;
+                this.sum = bid;
+            }
+
+            void update() {
+                size = size(left) + count + size(right);
+                sum = sum(left) + (long) bid * count + sum(right);
+            }
+        }
+    }
+}
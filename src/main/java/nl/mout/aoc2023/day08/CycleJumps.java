@@ -0,0 +1,107 @@
+package nl.mout.aoc2023.day08;
+
+import java.util.BitSet;
+
+import static java.util.Arrays.copyOf;
+
+class CycleJumps {
+
+    private final boolean[] goLeft;
+    private final int[] left;
+    private final int[] right;
+    private final int[][] firstHits;
+    private int[][] jumps;
+    private boolean[][][] hits;
+
+    CycleJumps(boolean[] goLeft, int[] left, int[] right, BitSet... stopSets) {
+        this.goLeft = goLeft;
+        this.left = left;
+        this.right = right;
+
+        var size = left.length;
+        firstHits = new int[stopSets.length][size];
+        jumps = new int[][]{new int[size]};
+        hits = new boolean[stopSets.length][][];
+        for (var set = 0; set < stopSets.length; set++) {
+            hits[set] = new boolean[][]{new boolean[size]};
+        }
+        for (var start = 0; start < size; start++) {
+            for (var set = 0; set < stopSets.length; set++) {
+                firstHits[set][start] = -1;
+            }
+            var node = start;
+            for (var ip = 0; ip < goLeft.length; ip++) {
+                for (var set = 0; set < stopSets.length; set++) {
+                    if (firstHits[set][start] < 0 && stopSets[set].get(node)) {
+                        firstHits[set][start] = ip;
+                        hits[set][0][start] = true;
+                    }
+                }
+                node = goLeft[ip] ? left[node] : right[node];
+            }
+            jumps[0][start] = node;
+        }
+        ensureLevels(64 - Integer.numberOfLeadingZeros(size));
+    }
+
+    long countSteps(int stopSet, int start) {
+        var setHits = hits[stopSet];
+        var node = start;
+        var cycles = 0L;
+        for (var level = jumps.length - 1; level >= 0; level--) {
+            if (!setHits[level][node]) {
+                cycles += 1L << level;
+                node = jumps[level][node];
+            }
+        }
+        if (!setHits[0][node]) {
+            throw new IllegalStateException("No end node reachable from node " + start);
+        }
+        return cycles * goLeft.length + firstHits[stopSet][node];
+    }
+
+    int positionAfter(int start, long steps) {
+        if (steps < 0) {
+            throw new IllegalArgumentException("Negative step count: " + steps);
+        }
+        var node = start;
+        var cycles = steps / goLeft.length;
+        ensureLevels(64 - Long.numberOfLeadingZeros(cycles));
+        for (var level = 0; cycles != 0; level++, cycles >>>= 1) {
+            if ((cycles & 1) != 0) {
+                node = jumps[level][node];
+            }
+        }
+        var remainder = (int) (steps % goLeft.length);
+        for (var ip = 0; ip < remainder; ip++) {
+            node = goLeft[ip] ? left[node] : right[node];
+        }
+        return node;
+    }
+
+    private void ensureLevels(int levels) {
+        if (levels <= jumps.length) {
+            return;
+        }
+        var size = left.length;
+        var from = jumps.length;
+        jumps = copyOf(jumps, levels);
+        for (var set = 0; set < hits.length; set++) {
+            hits[set] = copyOf(hits[set], levels);
+        }
+        for (var level = from; level < levels; level++) {
+            var previousJumps = jumps[level - 1];
+            jumps[level] = new int[size];
+            for (var node = 0; node < size; node++) {
+                jumps[level][node] = previousJumps[previousJumps[node]];
+            }
+            for (var setHits : hits) {
+                var previousHits = setHits[level - 1];
+                setHits[level] = new boolean[size];
+                for (var node = 0; node < size; node++) {
+                    setHits[level][node] = previousHits[node] || previousHits[previousJumps[node]];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day08;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day08Solver implements Solver<HauntedWasteland> {
+
+    @Override
+    public int day() {
+        return 8;
+    }
+
+    @Override
+    public HauntedWasteland parse(String input) {
+        return new HauntedWasteland(input);
+    }
+
+    @Override
+    public Object part1(HauntedWasteland puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(HauntedWasteland puzzle) {
+        return puzzle.part2();
+    }
+}
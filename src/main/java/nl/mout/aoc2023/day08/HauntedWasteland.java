@@ -2,46 +2,104 @@ package nl.mout.aoc2023.day08;
 
 import org.apache.commons.math3.util.ArithmeticUtils;
 
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Predicate;
 
-import static java.util.stream.Collectors.toMap;
 import static nl.mout.aoc2023.support.InputLoader.loadInput;
 
 public class HauntedWasteland {
 
-    private final char[] instructions;
-    private final Map<String, String[]> nodes;
+    private static final int ZZZ = 0;
+    private static final int END_NODES = 1;
+
+    private final boolean[] goLeft;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final int[] left;
+    private final int[] right;
+    private final BitSet startNodes;
+    private final BitSet endNodes;
+    private final String[] names;
+    private CycleJumps cycleJumps;
 
     public HauntedWasteland(String input) {
-        instructions = input.lines().findFirst().orElseThrow().toCharArray();
-        nodes = input.lines().skip(2).collect(toMap(
-                line -> line.substring(0, 3),
-                line -> new String[]{line.substring(7, 10), line.substring(12, 15)}
-        ));
+        var lines = input.lines().toList();
+        var instructions = lines.get(0);
+        goLeft = new boolean[instructions.length()];
+        for (var i = 0; i < goLeft.length; i++) {
+            goLeft[i] = instructions.charAt(i) == 'L';
+        }
+
+        var nodeLines = lines.subList(2, lines.size());
+        for (var line : nodeLines) {
+            intern(line.substring(0, 3));
+        }
+        left = new int[ids.size()];
+        right = new int[ids.size()];
+        startNodes = new BitSet(ids.size());
+        endNodes = new BitSet(ids.size());
+        names = new String[ids.size()];
+        ids.forEach((name, id) -> names[id] = name);
+        for (var line : nodeLines) {
+            var id = intern(line.substring(0, 3));
+            left[id] = intern(line.substring(7, 10));
+            right[id] = intern(line.substring(12, 15));
+            if (line.charAt(2) == 'A') {
+                startNodes.set(id);
+            } else if (line.charAt(2) == 'Z') {
+                endNodes.set(id);
+            }
+        }
     }
 
-    public int part1() {
-        return countSteps("AAA", node -> node.equals("ZZZ"));
+    public long part1() {
+        return stepsToZZZ("AAA");
     }
 
     public long part2() {
-        return nodes.keySet().stream()
-                .filter(n -> n.endsWith("A"))
-                .map(start -> Long.valueOf(countSteps(start, node -> node.endsWith("Z"))))
-                .reduce(ArithmeticUtils::lcm).orElseThrow();
-    }
-
-    private int countSteps(String start, Predicate<String> stop) {
-        int ip = 0, steps = 0;
-        var current = start;
-        while (!stop.test(current)) {
-            var elements = nodes.get(current);
-            current = (instructions[ip] == 'L') ? elements[0] : elements[1];
-            ip = (ip < instructions.length - 1) ? ip + 1 : 0;
-            steps++;
+        var result = 1L;
+        for (var start = startNodes.nextSetBit(0); start >= 0; start = startNodes.nextSetBit(start + 1)) {
+            result = ArithmeticUtils.lcm(result, cycleJumps().countSteps(END_NODES, start));
+        }
+        return result;
+    }
+
+    public long stepsToZZZ(String start) {
+        if (!ids.containsKey("ZZZ")) {
+            throw new IllegalArgumentException("Unknown node: ZZZ");
+        }
+        return cycleJumps().countSteps(ZZZ, id(start));
+    }
+
+    public long stepsToEndNode(String start) {
+        return cycleJumps().countSteps(END_NODES, id(start));
+    }
+
+    public String positionAfter(String start, long steps) {
+        return names[cycleJumps().positionAfter(id(start), steps)];
+    }
+
+    private CycleJumps cycleJumps() {
+        if (cycleJumps == null) {
+            var zzz = new BitSet(left.length);
+            if (ids.containsKey("ZZZ")) {
+                zzz.set(ids.get("ZZZ"));
+            }
+            cycleJumps = new CycleJumps(goLeft, left, right, zzz, endNodes);
+        }
+        return cycleJumps;
+    }
+
+    private int intern(String name) {
+        return ids.computeIfAbsent(name, key -> ids.size());
+    }
+
+    private int id(String name) {
+        var id = ids.get(name);
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown node: " + name);
         }
-        return steps;
+        return id;
     }
 
     public static void main(String[] args) {
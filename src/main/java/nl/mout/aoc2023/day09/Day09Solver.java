@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day09;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day09Solver implements Solver<MirageMaintenance> {
+
+    @Override
+    public int day() {
+        return 9;
+    }
+
+    @Override
+    public MirageMaintenance parse(String input) {
+        return new MirageMaintenance(input);
+    }
+
+    @Override
+    public Object part1(MirageMaintenance puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(MirageMaintenance puzzle) {
+        return puzzle.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day10;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day10Solver implements Solver<PipeMaze> {
+
+    @Override
+    public int day() {
+        return 10;
+    }
+
+    @Override
+    public PipeMaze parse(String input) {
+        return new PipeMaze(input);
+    }
+
+    @Override
+    public Object part1(PipeMaze puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(PipeMaze puzzle) {
+        return puzzle.part2();
+    }
+}
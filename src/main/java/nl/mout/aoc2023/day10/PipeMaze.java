@@ -1,22 +1,19 @@
 package nl.mout.aoc2023.day10;
 
-import java.util.HashSet;
+import nl.mout.aoc2023.support.CellSet;
+import nl.mout.aoc2023.support.Grid;
+
 import java.util.NoSuchElementException;
-import java.util.Set;
 
 import static nl.mout.aoc2023.day10.PipeMaze.Direction.*;
 import static nl.mout.aoc2023.support.InputLoader.loadInput;
 
 public class PipeMaze {
 
-    private final char[][] maze;
-    private final int width;
-    private final int height;
+    private final Grid maze;
 
     public PipeMaze(String input) {
-        this.maze = input.lines().map(String::toCharArray).toArray(char[][]::new);
-        this.height = maze.length;
-        this.width = maze[0].length;
+        this.maze = Grid.of(input, (byte) '.');
     }
 
     public int part1() {
@@ -28,14 +25,14 @@ public class PipeMaze {
         var enclosedTileCount = 0;
 
         var start = findStart();
-        maze[start.row][start.column] = '7';
 
-        for (var r = 0; r < height; r++) {
+        for (var r = 0; r < maze.height(); r++) {
             var outsideLoop = true;
             var temp = false;
-            for (var c = 0; c < width; c++) {
-                char current = maze[r][c];
-                if (loopCoordinates.contains(new Coordinate(r, c))) {
+            for (var c = 0; c < maze.width(); c++) {
+                var index = maze.index(r, c);
+                var current = (index == start) ? (byte) '7' : maze.get(index);
+                if (loopCoordinates.contains(index)) {
                     if (current == '|') {
                         outsideLoop = !outsideLoop;
                     } else if (current == 'F') {
@@ -60,31 +57,20 @@ public class PipeMaze {
         NORTH, EAST, SOUTH, WEST
     }
 
-    private record Coordinate(int row, int column) {
-    }
-
-    private Coordinate findStart() {
-        for (var r = 0; r < height; r++) {
-            for (var c = 0; c < width; c++) {
-                if (maze[r][c] == 'S') {
-                    return new Coordinate(r ,c);
-                }
-            }
+    private int findStart() {
+        var start = maze.indexOf((byte) 'S');
+        if (start < 0) {
+            throw new NoSuchElementException();
         }
-        throw new NoSuchElementException();
+        return start;
     }
 
-    private Coordinate move(Coordinate coordinate, Direction direction) {
-        return switch (direction) {
-            case NORTH -> new Coordinate(coordinate.row - 1, coordinate.column);
-            case SOUTH -> new Coordinate(coordinate.row + 1, coordinate.column);
-            case WEST -> new Coordinate(coordinate.row, coordinate.column - 1);
-            case EAST -> new Coordinate(coordinate.row, coordinate.column + 1);
-        };
+    private int move(int index, Direction direction) {
+        return index + maze.neighbours4()[direction.ordinal()];
     }
 
-    private Direction updateHeading(Coordinate coordinate, Direction direction) {
-        return switch (maze[coordinate.row][coordinate.column]) {
+    private Direction updateHeading(int index, Direction direction) {
+        return switch (maze.get(index)) {
             case 'F' -> (direction == WEST) ? SOUTH : EAST;
             case '7' -> (direction == EAST) ? SOUTH : WEST;
             case 'J' -> (direction == SOUTH) ? WEST : NORTH;
@@ -93,8 +79,8 @@ public class PipeMaze {
         };
     }
 
-    private Set<Coordinate> getLoopCoordinates() {
-        var coordinates = new HashSet<Coordinate>();
+    private CellSet getLoopCoordinates() {
+        var coordinates = new CellSet(maze.size());
         var current = findStart();
         var direction = SOUTH;
 
@@ -102,7 +88,7 @@ public class PipeMaze {
             current = move(current, direction);
             direction = updateHeading(current, direction);
             coordinates.add(current);
-        } while (maze[current.row][current.column] != 'S');
+        } while (maze.get(current) != 'S');
 
         return coordinates;
     }
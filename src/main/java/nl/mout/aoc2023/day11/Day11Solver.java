@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day11;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day11Solver implements Solver<CosmicExpansion> {
+
+    @Override
+    public int day() {
+        return 11;
+    }
+
+    @Override
+    public CosmicExpansion parse(String input) {
+        return new CosmicExpansion(input);
+    }
+
+    @Override
+    public Object part1(CosmicExpansion puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(CosmicExpansion puzzle) {
+        return puzzle.part2();
+    }
+}
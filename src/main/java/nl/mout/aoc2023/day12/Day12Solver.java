@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day12;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day12Solver implements Solver<HotSprings> {
+
+    @Override
+    public int day() {
+        return 12;
+    }
+
+    @Override
+    public HotSprings parse(String input) {
+        return new HotSprings(input);
+    }
+
+    @Override
+    public Object part1(HotSprings puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(HotSprings puzzle) {
+        return puzzle.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day13;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day13Solver implements Solver<PointOfIncidence> {
+
+    @Override
+    public int day() {
+        return 13;
+    }
+
+    @Override
+    public PointOfIncidence parse(String input) {
+        return new PointOfIncidence(input);
+    }
+
+    @Override
+    public Object part1(PointOfIncidence puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(PointOfIncidence puzzle) {
+        return puzzle.part2();
+    }
+}
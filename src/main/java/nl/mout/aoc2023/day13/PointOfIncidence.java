@@ -1,85 +1,85 @@
 package nl.mout.aoc2023.day13;
 
+import nl.mout.aoc2023.support.Grid;
+
 import java.util.List;
-import java.util.Optional;
-import java.util.function.BiPredicate;
+import java.util.OptionalInt;
 
 import static java.lang.Math.min;
-import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
 import static java.util.stream.IntStream.range;
 import static nl.mout.aoc2023.support.InputLoader.loadInput;
 
 public class PointOfIncidence {
 
-    private final List<List<String>> patterns;
+    private final List<Grid> patterns;
 
     public PointOfIncidence(String input) {
         patterns = stream(input.split("\n\n"))
-                .map(part -> asList(part.split("\n")))
+                .map(Grid::of)
                 .toList();
     }
 
     public int part1() {
         return patterns.stream()
-                .mapToInt(pattern -> getReflectionScore(pattern, List::equals))
+                .mapToInt(pattern -> getReflectionScore(pattern, 0))
                 .sum();
     }
 
     public int part2() {
-        BiPredicate<List<String>, List<String>> match = (above, below) -> {
-            var smudges = 0;
-            for (var i = 0; i < above.size(); i++) {
-                var line1 = above.get(i);
-                var line2 = below.get(i);
-                for (var j = 0; j < line1.length(); j++) {
-                    if (line1.charAt(j) != line2.charAt(j)) {
-                        smudges++;
-                    }
-                }
-            }
-            return smudges == 1;
-        };
-
         return patterns.stream()
-                .mapToInt(pattern -> getReflectionScore(pattern, match))
+                .mapToInt(pattern -> getReflectionScore(pattern, 1))
                 .sum();
     }
 
-    private Optional<Integer> getReflectionRow(List<String> pattern, BiPredicate<List<String>, List<String>> match) {
-        return range(1, pattern.size()).filter(r -> {
-            var above = pattern.subList(0, r).reversed();
-            var below = pattern.subList(r, pattern.size());
-            var min = min(above.size(), below.size());
-            if (above.size() > min) {
-                above = above.subList(0, min);
-            } else if (below.size() > min) {
-                below = below.subList(0, min);
+    private OptionalInt getReflectionRow(Grid pattern, int smudges) {
+        return range(1, pattern.height()).filter(r -> {
+            var count = 0;
+            for (var i = 0; i < min(r, pattern.height() - r) && count <= smudges; i++) {
+                count += countRowDifferences(pattern, r - 1 - i, r + i);
+            }
+            return count == smudges;
+        }).findFirst();
+    }
+
+    private OptionalInt getReflectionColumn(Grid pattern, int smudges) {
+        return range(1, pattern.width()).filter(c -> {
+            var count = 0;
+            for (var i = 0; i < min(c, pattern.width() - c) && count <= smudges; i++) {
+                count += countColumnDifferences(pattern, c - 1 - i, c + i);
             }
-            return match.test(above, below);
-        }).boxed().findFirst();
+            return count == smudges;
+        }).findFirst();
     }
 
-    private Optional<Integer> getReflectionColumn(List<String> pattern, BiPredicate<List<String>, List<String>> match) {
-        var transposed = transpose(pattern);
-        return getReflectionRow(transposed, match);
+    private int countRowDifferences(Grid pattern, int row1, int row2) {
+        var count = 0;
+        var index1 = pattern.index(row1, 0);
+        var index2 = pattern.index(row2, 0);
+        for (var c = 0; c < pattern.width(); c++) {
+            if (pattern.get(index1 + c) != pattern.get(index2 + c)) {
+                count++;
+            }
+        }
+        return count;
     }
 
-    private List<String> transpose(List<String> pattern) {
-        var matrix = pattern.stream().map(String::toCharArray).toArray(char[][]::new);
-        var transposed = new char[matrix[0].length][matrix.length];
-        for (var r = 0; r < matrix.length; r++) {
-            for (var c = 0; c < matrix[0].length; c++) {
-                transposed[c][r] = matrix[r][c];
+    private int countColumnDifferences(Grid pattern, int column1, int column2) {
+        var count = 0;
+        var index1 = pattern.index(0, column1);
+        var index2 = pattern.index(0, column2);
+        var stride = pattern.stride();
+        for (var r = 0; r < pattern.height(); r++) {
+            if (pattern.get(index1 + r * stride) != pattern.get(index2 + r * stride)) {
+                count++;
             }
         }
-        return stream(transposed).map(String::new).toList();
+        return count;
     }
 
-    private int getReflectionScore(List<String> pattern, BiPredicate<List<String>, List<String>> match) {
-        return getReflectionRow(pattern, match)
-                .map(r -> r * 100)
-                .orElseGet(() -> getReflectionColumn(pattern, match).orElseThrow());
+    private int getReflectionScore(Grid pattern, int smudges) {
+        var row = getReflectionRow(pattern, smudges);
+        return row.isPresent() ? row.getAsInt() * 100 : getReflectionColumn(pattern, smudges).orElseThrow();
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day14;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day14Solver implements Solver<ParabolicReflectorDish> {
+
+    @Override
+    public int day() {
+        return 14;
+    }
+
+    @Override
+    public ParabolicReflectorDish parse(String input) {
+        return new ParabolicReflectorDish(input);
+    }
+
+    @Override
+    public Object part1(ParabolicReflectorDish puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(ParabolicReflectorDish puzzle) {
+        return puzzle.part2();
+    }
+}
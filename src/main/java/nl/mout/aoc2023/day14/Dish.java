@@ -1,73 +1,50 @@
 package nl.mout.aoc2023.day14;
 
-import java.util.Arrays;
-
-import static java.util.Arrays.deepEquals;
-import static java.util.Arrays.deepHashCode;
+import nl.mout.aoc2023.support.Grid;
 
 public class Dish {
 
-    private final char[][] grid;
+    private final Grid grid;
 
-    private Dish(char[][] grid) {
+    private Dish(Grid grid) {
         this.grid = grid;
     }
 
     public Dish tiltNorth() {
-        var copy = copyGrid();
-        for (var r = 1; r < copy.length; r++) {
-            for (var c = 0; c < copy[r].length; c++) {
-                if (copy[r][c] == 'O') {
-                    for (var u = r - 1; u >= 0 && copy[u][c] == '.'; u--) {
-                        copy[u][c] = 'O';
-                        copy[u + 1][c] = '.';
-                    }
-                }
+        var copy = grid.copy();
+        for (var r = 1; r < copy.height(); r++) {
+            for (var c = 0; c < copy.width(); c++) {
+                roll(copy, copy.index(r, c), -copy.stride());
             }
         }
         return new Dish(copy);
     }
 
     public Dish tiltWest() {
-        var copy = copyGrid();
-        for (var c = 1; c < copy[0].length; c++) {
-            for (var r = 0; r < copy.length; r++) {
-                if (copy[r][c] == 'O') {
-                    for (var u = c - 1; u >= 0 && copy[r][u] == '.'; u--) {
-                        copy[r][u] = 'O';
-                        copy[r][u + 1] = '.';
-                    }
-                }
+        var copy = grid.copy();
+        for (var c = 1; c < copy.width(); c++) {
+            for (var r = 0; r < copy.height(); r++) {
+                roll(copy, copy.index(r, c), -1);
             }
         }
         return new Dish(copy);
     }
 
     public Dish tiltSouth() {
-        var copy = copyGrid();
-        for (var r = copy.length - 2; r >= 0; r--) {
-            for (var c = 0; c < copy[r].length; c++) {
-                if (copy[r][c] == 'O') {
-                    for (var u = r + 1; u < copy.length && copy[u][c] == '.'; u++) {
-                        copy[u][c] = 'O';
-                        copy[u - 1][c] = '.';
-                    }
-                }
+        var copy = grid.copy();
+        for (var r = copy.height() - 2; r >= 0; r--) {
+            for (var c = 0; c < copy.width(); c++) {
+                roll(copy, copy.index(r, c), copy.stride());
             }
         }
         return new Dish(copy);
     }
 
     public Dish tiltEast() {
-        var copy = copyGrid();
-        for (var c = copy[0].length - 2; c >= 0; c--) {
-            for (var r = 0; r < copy.length; r++) {
-                if (copy[r][c] == 'O') {
-                    for (var u = c + 1; u < copy[0].length && copy[r][u] == '.'; u++) {
-                        copy[r][u] = 'O';
-                        copy[r][u - 1] = '.';
-                    }
-                }
+        var copy = grid.copy();
+        for (var c = copy.width() - 2; c >= 0; c--) {
+            for (var r = 0; r < copy.height(); r++) {
+                roll(copy, copy.index(r, c), 1);
             }
         }
         return new Dish(copy);
@@ -75,10 +52,10 @@ public class Dish {
 
     public int totalLoad() {
         var totalLoad = 0;
-        for (var r = 0; r < grid.length; r++) {
-            for (var c = 0; c < grid[r].length; c++) {
-                if (grid[r][c] == 'O') {
-                    var loadFactor = grid.length - r;
+        for (var r = 0; r < grid.height(); r++) {
+            for (var c = 0; c < grid.width(); c++) {
+                if (grid.get(r, c) == 'O') {
+                    var loadFactor = grid.height() - r;
                     totalLoad += loadFactor;
                 }
             }
@@ -86,12 +63,15 @@ public class Dish {
         return totalLoad;
     }
 
-    private char[][] copyGrid() {
-        char[][] copy = new char[grid.length][];
-        for (var r = 0; r < grid.length; r++) {
-            copy[r] = Arrays.copyOf(grid[r], grid[r].length);
+    private void roll(Grid grid, int index, int offset) {
+        if (grid.get(index) == 'O') {
+            var target = index;
+            while (grid.get(target + offset) == '.') {
+                target += offset;
+            }
+            grid.set(index, (byte) '.');
+            grid.set(target, (byte) 'O');
         }
-        return copy;
     }
 
     @Override
@@ -103,16 +83,15 @@ public class Dish {
             return false;
         }
         Dish dish = (Dish) o;
-        return deepEquals(grid, dish.grid);
+        return grid.equals(dish.grid);
     }
 
     @Override
     public int hashCode() {
-        return deepHashCode(grid);
+        return grid.hashCode();
     }
 
     public static Dish of(String input) {
-        char[][] grid = input.lines().map(String::toCharArray).toArray(char[][]::new);
-        return new Dish(grid);
+        return new Dish(Grid.of(input, (byte) '#'));
     }
 }
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day15;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day15Solver implements Solver<LensLibrary> {
+
+    @Override
+    public int day() {
+        return 15;
+    }
+
+    @Override
+    public LensLibrary parse(String input) {
+        return new LensLibrary(input);
+    }
+
+    @Override
+    public Object part1(LensLibrary puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(LensLibrary puzzle) {
+        return puzzle.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day16;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day16Solver implements Solver<LavaFloor> {
+
+    @Override
+    public int day() {
+        return 16;
+    }
+
+    @Override
+    public LavaFloor parse(String input) {
+        return new LavaFloor(input);
+    }
+
+    @Override
+    public Object part1(LavaFloor puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(LavaFloor puzzle) {
+        return puzzle.part2();
+    }
+}
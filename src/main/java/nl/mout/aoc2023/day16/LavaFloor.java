@@ -1,135 +1,89 @@
 package nl.mout.aoc2023.day16;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.List;
+import nl.mout.aoc2023.support.CellSet;
+import nl.mout.aoc2023.support.Grid;
 
-import static java.util.stream.IntStream.range;
-import static nl.mout.aoc2023.day16.LavaFloor.Direction.*;
+import static java.lang.Math.max;
 import static nl.mout.aoc2023.support.InputLoader.loadInput;
 
 public class LavaFloor {
 
-    private final char[][] layout;
+    private static final int NORTH = 0;
+    private static final int EAST = 1;
+    private static final int SOUTH = 2;
+    private static final int WEST = 3;
+
+    private static final int[] MIRROR_SLASH = {EAST, NORTH, WEST, SOUTH};
+    private static final int[] MIRROR_BACKSLASH = {WEST, SOUTH, EAST, NORTH};
+
+    private final Grid layout;
 
     public LavaFloor(String input) {
-        this.layout = input.lines().map(String::toCharArray).toArray(char[][]::new);
+        this.layout = Grid.of(input);
     }
 
     public long part1() {
-        var start = new Beam(new Location(0, 0), EAST);
-        return energize(start);
+        return energize(layout.index(0, 0), EAST);
     }
 
     public long part2() {
-        var beams = new ArrayList<Beam>();
-        range(0, layout[0].length).forEach(c -> {
-            beams.add(new Beam(new Location(0, c), SOUTH));
-            beams.add(new Beam(new Location(layout.length - 1, c), NORTH));
-        });
-        range(0, layout.length).forEach(r -> {
-            beams.add(new Beam(new Location(r, 0), EAST));
-            beams.add(new Beam(new Location(r, layout[r].length - 1), WEST));
-        });
-        return beams.stream().mapToLong(this::energize).max().orElseThrow();
-    }
-
-    private record Location(int row, int column) {
-    }
-
-    enum Direction {
-        NORTH, EAST, SOUTH, WEST
-    }
-
-    private record Beam(Location location, Direction direction) {
-    }
-
-    private List<Beam> moveForward(Beam beam) {
-        var location = beam.location();
-        var direction = beam.direction();
-        var result = switch (direction) {
-            case NORTH -> new Beam(new Location(location.row() - 1, location.column()), NORTH);
-            case EAST -> new Beam(new Location(location.row(), location.column() + 1), EAST);
-            case SOUTH -> new Beam(new Location(location.row() + 1, location.column()), SOUTH);
-            case WEST -> new Beam(new Location(location.row(), location.column() - 1), WEST);
-        };
-        return List.of(result);
-    }
-
-    private List<Beam> moveMirrorSlash(Beam beam) {
-        var location = beam.location();
-        var result = switch (beam.direction()) {
-            case NORTH -> new Beam(new Location(location.row(), location.column() + 1), EAST);
-            case EAST -> new Beam(new Location(location.row() - 1, location.column()), NORTH);
-            case SOUTH -> new Beam(new Location(location.row(), location.column() - 1), WEST);
-            case WEST -> new Beam(new Location(location.row() + 1, location.column()), SOUTH);
-        };
-        return List.of(result);
-    }
-
-    private List<Beam> moveMirrorBackslash(Beam beam) {
-        var location = beam.location();
-        var result = switch (beam.direction()) {
-            case NORTH -> new Beam(new Location(location.row(), location.column() - 1), WEST);
-            case EAST -> new Beam(new Location(location.row() + 1, location.column()), SOUTH);
-            case SOUTH -> new Beam(new Location(location.row(), location.column() + 1), EAST);
-            case WEST -> new Beam(new Location(location.row() - 1, location.column()), NORTH);
-        };
-        return List.of(result);
-    }
-
-    private List<Beam> splitHyphen(Beam beam) {
-        var location = beam.location();
-        var direction = beam.direction();
-        return switch (direction) {
-            case NORTH, SOUTH -> List.of(
-                    new Beam(new Location(location.row(), location.column() + 1), EAST),
-                    new Beam(new Location(location.row(), location.column() - 1), WEST)
-            );
-            case EAST -> List.of(new Beam(new Location(location.row(), location.column() + 1), direction));
-            case WEST -> List.of(new Beam(new Location(location.row(), location.column() - 1), direction));
-        };
-    }
-
-    private List<Beam> splitPipe(Beam beam) {
-        var location = beam.location();
-        var direction = beam.direction();
-        return switch (direction) {
-            case NORTH -> List.of(new Beam(new Location(location.row() - 1, location.column()), direction));
-            case SOUTH -> List.of(new Beam(new Location(location.row() + 1, location.column()), direction));
-            case EAST, WEST -> List.of(
-                    new Beam(new Location(location.row() - 1, location.column()), NORTH),
-                    new Beam(new Location(location.row() + 1, location.column()), SOUTH)
-            );
-        };
+        var max = 0L;
+        for (var c = 0; c < layout.width(); c++) {
+            max = max(max, energize(layout.index(0, c), SOUTH));
+            max = max(max, energize(layout.index(layout.height() - 1, c), NORTH));
+        }
+        for (var r = 0; r < layout.height(); r++) {
+            max = max(max, energize(layout.index(r, 0), EAST));
+            max = max(max, energize(layout.index(r, layout.width() - 1), WEST));
+        }
+        return max;
     }
 
-    private boolean isOnGrid(Beam beam) {
-        return 0 <= beam.location().row() && beam.location().row() < layout.length &&
-                0 <= beam.location().column() && beam.location().column() < layout[0].length;
+    private long energize(int startIndex, int startDirection) {
+        var history = new CellSet(layout.size() * 4);
+        var energized = new CellSet(layout.size());
+        var stack = new int[layout.size() * 4];
+        var size = 0;
+        history.add(startIndex * 4 + startDirection);
+        stack[size++] = startIndex * 4 + startDirection;
+        var offsets = layout.neighbours4();
+
+        while (size > 0) {
+            var beam = stack[--size];
+            var index = beam >>> 2;
+            var direction = beam & 3;
+            energized.add(index);
+
+            var ch = layout.get(index);
+            int first, second = -1;
+            switch (ch) {
+                case '.' -> first = direction;
+                case '/' -> first = MIRROR_SLASH[direction];
+                case '\\' -> first = MIRROR_BACKSLASH[direction];
+                case '-' -> {
+                    first = (direction == NORTH || direction == SOUTH) ? EAST : direction;
+                    second = (direction == NORTH || direction == SOUTH) ? WEST : -1;
+                }
+                case '|' -> {
+                    first = (direction == EAST || direction == WEST) ? NORTH : direction;
+                    second = (direction == EAST || direction == WEST) ? SOUTH : -1;
+                }
+                default -> throw new IllegalStateException("Unsupported character in layout: " + (char) ch);
+            }
+            size = push(stack, size, history, index + offsets[first], first);
+            if (second >= 0) {
+                size = push(stack, size, history, index + offsets[second], second);
+            }
+        }
+        return energized.size();
     }
 
-    private long energize(Beam start) {
-        var beams = new LinkedList<>(List.of(start));
-        var history = new HashSet<Beam>();
-        while (!beams.isEmpty()) {
-            var beam = beams.pop();
-            if (!history.contains(beam)) {
-                history.add(beam);
-                char ch = layout[beam.location().row()][beam.location().column()];
-                var newBeams = switch (ch) {
-                    case '.' -> moveForward(beam);
-                    case '/' -> moveMirrorSlash(beam);
-                    case '\\' -> moveMirrorBackslash(beam);
-                    case '-' -> splitHyphen(beam);
-                    case '|' -> splitPipe(beam);
-                    default -> throw new IllegalStateException("Unsupported character in layout: " + ch);
-                };
-                newBeams.stream().filter(this::isOnGrid).forEach(beams::add);
-            }
+    private int push(int[] stack, int size, CellSet history, int index, int direction) {
+        var beam = index * 4 + direction;
+        if (layout.get(index) != Grid.BORDER && history.add(beam)) {
+            stack[size++] = beam;
         }
-        return history.stream().map(Beam::location).distinct().count();
+        return size;
     }
 
     public static void main(String[] args) {
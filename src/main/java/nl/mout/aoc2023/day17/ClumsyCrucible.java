@@ -1,174 +1,86 @@
 package nl.mout.aoc2023.day17;
 
-import java.util.*;
-import java.util.function.Predicate;
+import nl.mout.aoc2023.support.Grid;
+
+import java.util.PriorityQueue;
 
-import static java.lang.Character.digit;
 import static java.lang.Integer.MAX_VALUE;
+import static java.util.Arrays.fill;
 import static nl.mout.aoc2023.support.InputLoader.loadInput;
 
 public class ClumsyCrucible {
 
-    private final int[][] map;
+    private static final int EAST = 1;
+
+    private final Grid map;
 
     public ClumsyCrucible(String input) {
-        this.map = input.lines()
-                .map(this::parseLine)
-                .toArray(int[][]::new);
+        this.map = Grid.of(input);
     }
 
     public int part1() {
-        return findLeastHeatLoss(
-                v -> v.location.row == map.length - 1 && v.location.column == map[0].length - 1,
-                v -> v.steps < 3,
-                v -> true
-        );
+        return findLeastHeatLoss(1, 3);
     }
 
     public int part2() {
-        return findLeastHeatLoss(
-                v -> v.location.row == map.length - 1 && v.location.column == map[0].length - 1 && v.steps >= 4,
-                v -> v.steps < 10,
-                v -> v.steps == 0 || v.steps >= 4
-        );
+        return findLeastHeatLoss(4, 10);
     }
 
-    private record Vertex(Location location, Direction direction, int steps) {
-    }
-
-    private record Node(int distance, Vertex vertex) implements Comparable<Node> {
+    private record Node(int distance, int vertex) implements Comparable<Node> {
         @Override
         public int compareTo(Node o) {
             return this.distance - o.distance;
         }
     }
 
-    private record Location(int row, int column) {
-    }
-
-    enum Direction {
-        NORTH, WEST, SOUTH, EAST
-    }
+    private int findLeastHeatLoss(int minSteps, int maxSteps) {
+        var stepStates = maxSteps + 1;
+        var dist = new int[map.size() * 4 * stepStates];
+        fill(dist, MAX_VALUE);
+        var target = map.index(map.height() - 1, map.width() - 1);
+        var offsets = map.neighbours4();
 
-    private int[] parseLine(String line) {
-        return line.chars().map(ch -> digit(ch, 10)).toArray();
-    }
-
-    private int findLeastHeatLoss(Predicate<Vertex> isAtTarget, Predicate<Vertex> isForwardAllowed, Predicate<Vertex> isTurnAllowed) {
-        var dist = new HashMap<Vertex, Integer>();
-        var start = new Vertex( new Location(0, 0), Direction.EAST, 0);
-        dist.put(start, 0);
-        var queue = new PriorityQueue<>(List.of(new Node(0, start)));
+        var start = (map.index(0, 0) * 4 + EAST) * stepStates;
+        dist[start] = 0;
+        var queue = new PriorityQueue<Node>();
+        queue.offer(new Node(0, start));
 
         while (!queue.isEmpty()) {
             var node = queue.poll();
-            if (isAtTarget.test(node.vertex)) {
-                return dist.get(node.vertex);
+            var vertex = node.vertex;
+            if (node.distance > dist[vertex]) {
+                continue;
             }
-            var neighbors = getNeighbors(node.vertex, isForwardAllowed, isTurnAllowed);
-            for (Vertex neighbor : neighbors) {
-                var alt = node.distance + map[neighbor.location.row][neighbor.location.column];
-                if (alt < dist.getOrDefault(neighbor, MAX_VALUE)) {
-                    dist.put(neighbor, alt);
-                    queue.offer(new Node(alt, neighbor));
-                }
+            var steps = vertex % stepStates;
+            var direction = (vertex / stepStates) & 3;
+            var index = vertex / stepStates / 4;
+            if (index == target && steps >= minSteps) {
+                return node.distance;
             }
-        }
-        throw new IllegalStateException("Target location not reachable");
-    }
-
-    private Optional<Vertex> moveForward(Vertex vertex, Predicate<Vertex> isAllowed) {
-        if (!isAllowed.test(vertex)) {
-            return Optional.empty();
-        }
-
-        var forward = switch (vertex.direction) {
-            case NORTH -> new Location(vertex.location.row - 1, vertex.location.column);
-            case WEST -> new Location(vertex.location.row, vertex.location.column - 1);
-            case SOUTH -> new Location(vertex.location.row + 1, vertex.location.column);
-            case EAST -> new Location(vertex.location.row, vertex.location.column + 1);
-        };
-
-        if (isOnMap(forward)) {
-            return Optional.of(new Vertex(forward, vertex.direction, vertex.steps + 1));
-        }
-        return Optional.empty();
-    }
-
-    private Optional<Vertex> turnLeft(Vertex vertex, Predicate<Vertex> isAllowed) {
-        if (!isAllowed.test(vertex)) {
-            return Optional.empty();
-        }
-
-        Location left;
-        Direction direction;
-        switch (vertex.direction) {
-            case NORTH -> {
-                direction = Direction.WEST;
-                left = new Location(vertex.location.row, vertex.location.column - 1);
-            }
-            case WEST -> {
-                direction = Direction.SOUTH;
-                left = new Location(vertex.location.row + 1, vertex.location.column);
+            if (steps < maxSteps) {
+                relax(queue, dist, node.distance, index + offsets[direction], direction, steps + 1, stepStates);
             }
-            case SOUTH -> {
-                direction = Direction.EAST;
-                left = new Location(vertex.location.row, vertex.location.column + 1);
-            }
-            default -> {
-                direction = Direction.NORTH;
-                left = new Location(vertex.location.row - 1, vertex.location.column);
+            if (steps == 0 || steps >= minSteps) {
+                var left = (direction + 3) & 3;
+                var right = (direction + 1) & 3;
+                relax(queue, dist, node.distance, index + offsets[left], left, 1, stepStates);
+                relax(queue, dist, node.distance, index + offsets[right], right, 1, stepStates);
             }
         }
-
-        if (isOnMap(left)) {
-            return Optional.of(new Vertex(left, direction, 1));
-        }
-        return Optional.empty();
+        throw new IllegalStateException("Target location not reachable");
     }
 
-    private Optional<Vertex> turnRight(Vertex vertex, Predicate<Vertex> isAllowed) {
-        if (!isAllowed.test(vertex)) {
-            return Optional.empty();
-        }
-
-        Location right;
-        Direction direction;
-        switch (vertex.direction) {
-            case NORTH -> {
-                direction = Direction.EAST;
-                right = new Location(vertex.location.row, vertex.location.column + 1);
-            }
-            case WEST -> {
-                direction = Direction.NORTH;
-                right = new Location(vertex.location.row - 1, vertex.location.column);
-            }
-            case SOUTH -> {
-                direction = Direction.WEST;
-                right = new Location(vertex.location.row, vertex.location.column - 1);
-            }
-            default -> {
-                direction = Direction.SOUTH;
-                right = new Location(vertex.location.row + 1, vertex.location.column);
-            }
+    private void relax(PriorityQueue<Node> queue, int[] dist, int distance, int index, int direction, int steps, int stepStates) {
+        var heatLoss = map.get(index);
+        if (heatLoss == Grid.BORDER) {
+            return;
         }
-
-        if (isOnMap(right)) {
-            return Optional.of(new Vertex(right, direction, 1));
+        var neighbor = (index * 4 + direction) * stepStates + steps;
+        var alt = distance + (heatLoss - '0');
+        if (alt < dist[neighbor]) {
+            dist[neighbor] = alt;
+            queue.offer(new Node(alt, neighbor));
         }
-        return Optional.empty();
-    }
-
-    private boolean isOnMap(Location location) {
-        return 0 <= location.row && location.row < map.length && 0 <= location.column && location.column < map[0].length;
-    }
-
-    private Set<Vertex> getNeighbors(Vertex vertex, Predicate<Vertex> isForwardAllowed, Predicate<Vertex> isTurnAllowed) {
-        var result = new HashSet<Vertex>();
-        moveForward(vertex, isForwardAllowed).ifPresent(result::add);
-        turnLeft(vertex, isTurnAllowed).ifPresent(result::add);
-        turnRight(vertex, isTurnAllowed).ifPresent(result::add);
-        return result;
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day17;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day17Solver implements Solver<ClumsyCrucible> {
+
+    @Override
+    public int day() {
+        return 17;
+    }
+
+    @Override
+    public ClumsyCrucible parse(String input) {
+        return new ClumsyCrucible(input);
+    }
+
+    @Override
+    public Object part1(ClumsyCrucible puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(ClumsyCrucible puzzle) {
+        return puzzle.part2();
+    }
+}
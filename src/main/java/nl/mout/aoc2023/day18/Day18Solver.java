@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day18;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day18Solver implements Solver<LavaductLagoon> {
+
+    @Override
+    public int day() {
+        return 18;
+    }
+
+    @Override
+    public LavaductLagoon parse(String input) {
+        return new LavaductLagoon(input);
+    }
+
+    @Override
+    public Object part1(LavaductLagoon puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(LavaductLagoon puzzle) {
+        return puzzle.part2();
+    }
+}
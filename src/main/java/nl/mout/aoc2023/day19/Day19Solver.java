@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day19;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day19Solver implements Solver<Aplenty> {
+
+    @Override
+    public int day() {
+        return 19;
+    }
+
+    @Override
+    public Aplenty parse(String input) {
+        return new Aplenty(input);
+    }
+
+    @Override
+    public Object part1(Aplenty puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(Aplenty puzzle) {
+        return puzzle.part2();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day20;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day20Solver implements Solver<PulsePropagation> {
+
+    @Override
+    public int day() {
+        return 20;
+    }
+
+    @Override
+    public PulsePropagation parse(String input) {
+        return new PulsePropagation(input);
+    }
+
+    @Override
+    public Object part1(PulsePropagation puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(PulsePropagation puzzle) {
+        return puzzle.part2();
+    }
+}
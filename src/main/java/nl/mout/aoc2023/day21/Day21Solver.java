@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day21;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day21Solver implements Solver<StepCounter> {
+
+    @Override
+    public int day() {
+        return 21;
+    }
+
+    @Override
+    public StepCounter parse(String input) {
+        return new StepCounter(input);
+    }
+
+    @Override
+    public Object part1(StepCounter puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(StepCounter puzzle) {
+        return puzzle.part2();
+    }
+}
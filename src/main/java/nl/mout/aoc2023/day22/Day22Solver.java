@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day22;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day22Solver implements Solver<SandSlabs> {
+
+    @Override
+    public int day() {
+        return 22;
+    }
+
+    @Override
+    public SandSlabs parse(String input) {
+        return new SandSlabs(input);
+    }
+
+    @Override
+    public Object part1(SandSlabs puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(SandSlabs puzzle) {
+        return puzzle.part2();
+    }
+}
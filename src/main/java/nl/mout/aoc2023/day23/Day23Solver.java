@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day23;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day23Solver implements Solver<Walk> {
+
+    @Override
+    public int day() {
+        return 23;
+    }
+
+    @Override
+    public Walk parse(String input) {
+        return new Walk(input);
+    }
+
+    @Override
+    public Object part1(Walk puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(Walk puzzle) {
+        return puzzle.part2();
+    }
+}
@@ -1,133 +1,122 @@
 package nl.mout.aoc2023.day23;
 
+import nl.mout.aoc2023.support.CellSet;
+import nl.mout.aoc2023.support.Grid;
 import org.jgrapht.graph.DefaultEdge;
 import org.jgrapht.graph.SimpleDirectedWeightedGraph;
 
-import java.util.*;
-import java.util.function.Function;
-
 import static java.lang.Math.max;
-import static java.util.stream.Collectors.toSet;
-import static java.util.stream.IntStream.range;
 import static nl.mout.aoc2023.support.InputLoader.loadInput;
 import static org.jgrapht.Graphs.successorListOf;
 
 public class Walk {
 
-    private static final Map<Character, List<Delta>> DIRECTIONS = Map.of(
-            '>', List.of(new Delta(0, 1)),
-            'v', List.of(new Delta(1, 0)),
-            '.', List.of(new Delta(-1, 0), new Delta(1, 0), new Delta(0, -1), new Delta(0, 1))
-    );
-
-    private final char[][] map;
-    private final int height;
-    private final int width;
+    private final Grid map;
+    private final int[] east;
+    private final int[] south;
 
     public Walk(String input) {
-        map = input.lines().map(String::toCharArray).toArray(char[][]::new);
-        height = map.length;
-        width = map[0].length;
+        map = Grid.of(input, (byte) '#');
+        east = new int[]{map.neighbours4()[1]};
+        south = new int[]{map.neighbours4()[2]};
     }
 
     public int part1() {
-        return findLongestPath(DIRECTIONS::get);
+        return findLongestPath(true);
     }
 
     public int part2() {
-        return findLongestPath(key -> DIRECTIONS.get('.'));
-    }
-
-    private record Delta(int dr, int dc) {
-    }
-
-    private record Location(int row, int column) {
-
-        Set<Location> getNeighbors() {
-            return Set.of(new Location(row - 1, column),
-                    new Location(row + 1, column),
-                    new Location(row, column - 1),
-                    new Location(row, column + 1)
-            );
-        }
-
-        Location move(Delta delta) {
-            return new Location(row + delta.dr(), column + delta.dc());
-        }
-    }
-
-    private record QueueElement(int distance, Location location) {
+        return findLongestPath(false);
     }
 
-    private Location getStart() {
-        return new Location(0, 1);
+    private int getStart() {
+        return map.index(0, 1);
     }
 
-    private Location getDestination() {
-        return new Location(height - 1, width - 2);
+    private int getDestination() {
+        return map.index(map.height() - 1, map.width() - 2);
     }
 
-    private boolean isOnGrid(Location location) {
-        return location.row() >= 0 && location.row() < height && location.column() >= 0 && location.column() < width;
+    private boolean isOpen(int index) {
+        return map.get(index) != '#';
     }
 
-    private char getMapValue(Location location) {
-        return map[location.row()][location.column()];
-    }
-
-    private int countNonForestNeighbors(Location location) {
-        return (int) location.getNeighbors().stream()
-                .filter(neighbor -> isOnGrid(neighbor) && getMapValue(neighbor) != '#')
-                .count();
+    private int[] getDirections(int index, boolean slippery) {
+        if (slippery) {
+            switch (map.get(index)) {
+                case '>' -> {
+                    return east;
+                }
+                case 'v' -> {
+                    return south;
+                }
+            }
+        }
+        return map.neighbours4();
     }
 
-    private Set<Location> findIntersections() {
-        return range(0, height)
-                .boxed()
-                .flatMap(r -> range(0, width).mapToObj(c -> new Location(r, c)))
-                .filter(location -> getMapValue(location) != '#' && countNonForestNeighbors(location) >= 3)
-                .collect(toSet());
+    private int countNonForestNeighbors(int index) {
+        var count = 0;
+        for (var offset : map.neighbours4()) {
+            if (isOpen(index + offset)) {
+                count++;
+            }
+        }
+        return count;
     }
 
-    private SimpleDirectedWeightedGraph<Location, DefaultEdge> applyEdgeContraction(Function<Character, List<Delta>> directions) {
-        var graph = new SimpleDirectedWeightedGraph<Location, DefaultEdge>(DefaultEdge.class);
+    private SimpleDirectedWeightedGraph<Integer, DefaultEdge> applyEdgeContraction(boolean slippery) {
+        var graph = new SimpleDirectedWeightedGraph<Integer, DefaultEdge>(DefaultEdge.class);
+        var vertices = new CellSet(map.size());
         graph.addVertex(getStart());
         graph.addVertex(getDestination());
-        findIntersections().forEach(graph::addVertex);
-
-        for (Location startLocation : graph.vertexSet()) {
-            var queue = new LinkedList<>(List.of(new QueueElement(0, startLocation)));
-            var visited = new HashSet<>(List.of(startLocation));
-            while (!queue.isEmpty()) {
-                var element = queue.pop();
-                var location = element.location();
-                var distance = element.distance();
-                if (distance != 0 && graph.vertexSet().contains(location)) {
+        for (var r = 0; r < map.height(); r++) {
+            for (var c = 0; c < map.width(); c++) {
+                var index = map.index(r, c);
+                if (isOpen(index) && countNonForestNeighbors(index) >= 3) {
+                    graph.addVertex(index);
+                }
+            }
+        }
+        graph.vertexSet().forEach(vertices::add);
+
+        var queue = new int[map.size()];
+        var distances = new int[map.size()];
+        var visited = new CellSet(map.size());
+        for (int startLocation : graph.vertexSet()) {
+            int head = 0, tail = 0;
+            visited.clear();
+            visited.add(startLocation);
+            queue[tail++] = startLocation;
+            distances[startLocation] = 0;
+            while (head < tail) {
+                var location = queue[head++];
+                var distance = distances[location];
+                if (distance != 0 && vertices.contains(location)) {
                     graph.addEdge(startLocation, location);
                     graph.setEdgeWeight(startLocation, location, distance);
                 } else {
-                    var value = getMapValue(location);
-                    directions.apply(value).stream()
-                            .map(location::move)
-                            .filter(neighbor -> isOnGrid(neighbor) && getMapValue(neighbor) != '#' && !visited.contains(neighbor))
-                            .forEach(neighbor -> {
-                                queue.add(new QueueElement(distance + 1, neighbor));
-                                visited.add(neighbor);
-                            });
+                    for (var offset : getDirections(location, slippery)) {
+                        var neighbor = location + offset;
+                        if (isOpen(neighbor) && visited.add(neighbor)) {
+                            distances[neighbor] = distance + 1;
+                            queue[tail++] = neighbor;
+                        }
+                    }
                 }
             }
         }
         return graph;
     }
 
-    private int findLongestPath(Location location, Set<Location> visited, SimpleDirectedWeightedGraph<Location, DefaultEdge> graph) {
+    private int findLongestPath(int location, CellSet visited, SimpleDirectedWeightedGraph<Integer, DefaultEdge> graph) {
         int max;
-        if (location.equals(getDestination())) {
+        if (location == getDestination()) {
             max = 0;
         } else {
             max = Integer.MIN_VALUE;
             visited.add(location);
-            for (Location neighbor : successorListOf(graph, location)) {
+            for (int neighbor : successorListOf(graph, location)) {
                 if (!visited.contains(neighbor)) {
                     var edge = graph.getEdge(location, neighbor);
                     max = max(max, findLongestPath(neighbor, visited, graph) + (int) graph.getEdgeWeight(edge));
@@ -138,9 +127,9 @@ public class Walk {
         return max;
     }
 
-    private int findLongestPath(Function<Character, List<Delta>> allowedDirections) {
-        var graph = applyEdgeContraction(allowedDirections);
-        return findLongestPath(getStart(), new HashSet<>(), graph);
+    private int findLongestPath(boolean slippery) {
+        var graph = applyEdgeContraction(slippery);
+        return findLongestPath(getStart(), new CellSet(map.size()), graph);
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,26 @@
+package nl.mout.aoc2023.day24;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day24Solver implements Solver<Odds> {
+
+    @Override
+    public int day() {
+        return 24;
+    }
+
+    @Override
+    public Odds parse(String input) {
+        return new Odds(input);
+    }
+
+    @Override
+    public Object part1(Odds puzzle) {
+        return puzzle.part1();
+    }
+
+    @Override
+    public Object part2(Odds puzzle) {
+        return puzzle.part2();
+    }
+}
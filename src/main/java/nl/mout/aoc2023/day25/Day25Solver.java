@@ -0,0 +1,21 @@
+package nl.mout.aoc2023.day25;
+
+import nl.mout.aoc2023.support.Solver;
+
+public class Day25Solver implements Solver<Snowverload> {
+
+    @Override
+    public int day() {
+        return 25;
+    }
+
+    @Override
+    public Snowverload parse(String input) {
+        return new Snowverload(input);
+    }
+
+    @Override
+    public Object part1(Snowverload puzzle) {
+        return puzzle.part1();
+    }
+}
@@ -0,0 +1,42 @@
+package nl.mout.aoc2023.support;
+
+import java.util.Arrays;
+
+public class CellSet {
+
+    private final long[] words;
+
+    public CellSet(int size) {
+        this.words = new long[(size + 63) >>> 6];
+    }
+
+    public boolean add(int index) {
+        var word = index >>> 6;
+        var mask = 1L << index;
+        if ((words[word] & mask) != 0) {
+            return false;
+        }
+        words[word] |= mask;
+        return true;
+    }
+
+    public boolean contains(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public void remove(int index) {
+        words[index >>> 6] &= ~(1L << index);
+    }
+
+    public int size() {
+        var size = 0;
+        for (var word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+}
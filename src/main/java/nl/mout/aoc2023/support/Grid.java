@@ -0,0 +1,136 @@
+package nl.mout.aoc2023.support;
+
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+public class Grid {
+
+    public static final byte BORDER = 0;
+
+    private final byte[] cells;
+    private final int width;
+    private final int height;
+    private final int stride;
+    private final byte border;
+    private final int[] neighbours4;
+    private final int[] neighbours8;
+
+    private Grid(byte[] cells, int width, int height, byte border) {
+        this.cells = cells;
+        this.width = width;
+        this.height = height;
+        this.stride = width + 2;
+        this.border = border;
+        this.neighbours4 = new int[]{-stride, 1, stride, -1};
+        this.neighbours8 = new int[]{-stride - 1, -stride, -stride + 1, 1, stride + 1, stride, stride - 1, -1};
+    }
+
+    public static Grid of(String input) {
+        return of(input, BORDER);
+    }
+
+    public static Grid of(String input, byte border) {
+        var lines = input.lines().toArray(String[]::new);
+        var width = lines[0].length();
+        var height = lines.length;
+        var cells = new byte[(width + 2) * (height + 2)];
+        Arrays.fill(cells, border);
+        for (var r = 0; r < height; r++) {
+            var row = lines[r].getBytes(ISO_8859_1);
+            System.arraycopy(row, 0, cells, (r + 1) * (width + 2) + 1, width);
+        }
+        return new Grid(cells, width, height, border);
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public int stride() {
+        return stride;
+    }
+
+    public int size() {
+        return cells.length;
+    }
+
+    public byte border() {
+        return border;
+    }
+
+    public int index(int row, int column) {
+        return (row + 1) * stride + column + 1;
+    }
+
+    public int row(int index) {
+        return index / stride - 1;
+    }
+
+    public int column(int index) {
+        return index % stride - 1;
+    }
+
+    public byte get(int index) {
+        return cells[index];
+    }
+
+    public byte get(int row, int column) {
+        return cells[index(row, column)];
+    }
+
+    public void set(int index, byte value) {
+        cells[index] = value;
+    }
+
+    public int[] neighbours4() {
+        return neighbours4;
+    }
+
+    public int[] neighbours8() {
+        return neighbours8;
+    }
+
+    public int indexOf(byte value) {
+        for (var i = stride; i < cells.length - stride; i++) {
+            if (cells[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public Grid copy() {
+        return new Grid(cells.clone(), width, height, border);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Grid grid = (Grid) o;
+        return width == grid.width && Arrays.equals(cells, grid.cells);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(cells);
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder(height * (width + 1));
+        for (var r = 0; r < height; r++) {
+            builder.append(new String(cells, index(r, 0), width, ISO_8859_1)).append('\n');
+        }
+        return builder.toString();
+    }
+}
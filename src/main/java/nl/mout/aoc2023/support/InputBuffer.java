@@ -0,0 +1,135 @@
+package nl.mout.aoc2023.support;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+public class InputBuffer implements CharSequence {
+
+    private final ByteBuffer buffer;
+
+    public InputBuffer(ByteBuffer buffer) {
+        this.buffer = buffer.slice().asReadOnlyBuffer();
+    }
+
+    public static InputBuffer of(String input) {
+        return new InputBuffer(ByteBuffer.wrap(input.getBytes(ISO_8859_1)));
+    }
+
+    @FunctionalInterface
+    public interface LineVisitor {
+        void visit(InputBuffer input, int start, int end);
+    }
+
+    public ByteBuffer buffer() {
+        return buffer.duplicate();
+    }
+
+    public byte byteAt(int index) {
+        return buffer.get(index);
+    }
+
+    @Override
+    public int length() {
+        return buffer.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(index) & 0xFF);
+    }
+
+    @Override
+    public InputBuffer subSequence(int start, int end) {
+        return new InputBuffer(buffer.slice(start, end - start));
+    }
+
+    public void copyTo(int index, byte[] destination, int offset, int length) {
+        buffer.get(index, destination, offset, length);
+    }
+
+    public int indexOf(byte value, int from, int to) {
+        for (var i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int lineStartAtOrAfter(int index) {
+        if (index <= 0 || buffer.get(index - 1) == '\n') {
+            return index;
+        }
+        var newline = indexOf((byte) '\n', index, length());
+        return newline < 0 ? length() : newline + 1;
+    }
+
+    public int lineCount() {
+        var count = 0;
+        var start = 0;
+        while (start < length()) {
+            var newline = indexOf((byte) '\n', start, length());
+            start = newline < 0 ? length() : newline + 1;
+            count++;
+        }
+        return count;
+    }
+
+    public int nonBlankLineCount() {
+        var count = new int[1];
+        forEachLine((input, start, end) -> {
+            if (!isBlank(start, end)) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    public boolean startsWith(String prefix, int start, int end) {
+        if (end - start < prefix.length()) {
+            return false;
+        }
+        for (var i = 0; i < prefix.length(); i++) {
+            if (buffer.get(start + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isBlank(int start, int end) {
+        for (var i = start; i < end; i++) {
+            var b = buffer.get(i);
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void forEachLine(LineVisitor visitor) {
+        forEachLine(0, length(), visitor);
+    }
+
+    public void forEachLine(int from, int to, LineVisitor visitor) {
+        var start = from;
+        while (start < to) {
+            var newline = indexOf((byte) '\n', start, to);
+            var next = newline < 0 ? to : newline + 1;
+            var end = newline < 0 ? to : newline;
+            if (end > start && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+            visitor.visit(this, start, end);
+            start = next;
+        }
+    }
+
+    @Override
+    public String toString() {
+        var bytes = new byte[length()];
+        buffer.get(0, bytes);
+        return new String(bytes, ISO_8859_1);
+    }
+}
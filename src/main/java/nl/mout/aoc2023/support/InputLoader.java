@@ -1,25 +1,67 @@
 package nl.mout.aoc2023.support;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
 import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
 
 public class InputLoader {
 
+    private static final Map<String, Path> EXTRACTED = new ConcurrentHashMap<>();
+
     public static String loadInput(String filename) {
-        var name = "./%s".formatted(filename);
-        var url = InputLoader.class.getClassLoader().getResource(name);
-        if (url == null) {
-            throw new IllegalArgumentException("Resource not found: " + name);
+        var url = getResource(filename);
+        try (var stream = url.openStream()) {
+            return new String(stream.readAllBytes(), ISO_8859_1);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read input: " + filename, e);
         }
+    }
+
+    public static InputBuffer mapInput(String filename) {
+        var url = getResource(filename);
         try {
-            var path = Paths.get(url.toURI());
-            return Files.readString(path, ISO_8859_1);
+            var path = "file".equals(url.getProtocol())
+                    ? Paths.get(url.toURI())
+                    : EXTRACTED.computeIfAbsent(filename, name -> extract(url, name));
+            try (var channel = FileChannel.open(path, READ)) {
+                if (channel.size() > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Input too large to map: " + filename);
+                }
+                return new InputBuffer(channel.map(READ_ONLY, 0, channel.size()));
+            }
         } catch (IOException | URISyntaxException e) {
             throw new RuntimeException("Unable to read input: " + filename, e);
         }
     }
+
+    private static Path extract(URL url, String filename) {
+        try (var stream = url.openStream()) {
+            var path = Files.createTempFile("aoc2023-", "-" + filename);
+            path.toFile().deleteOnExit();
+            Files.copy(stream, path, REPLACE_EXISTING);
+            return path;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to extract input: " + filename, e);
+        }
+    }
+
+    private static URL getResource(String filename) {
+        var url = InputLoader.class.getClassLoader().getResource(filename);
+        if (url == null) {
+            throw new IllegalArgumentException("Resource not found: " + filename);
+        }
+        return url;
+    }
 }
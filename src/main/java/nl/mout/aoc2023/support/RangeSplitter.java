@@ -0,0 +1,63 @@
+package nl.mout.aoc2023.support;
+
+import java.io.Serial;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+public class RangeSplitter {
+
+    public static final SplitPoint MIDPOINT = (from, to) -> (from + to) >>> 1;
+
+    @FunctionalInterface
+    public interface RangeScanner<T> {
+        T scan(int from, int to);
+    }
+
+    @FunctionalInterface
+    public interface SplitPoint {
+        int split(int from, int to);
+    }
+
+    public static <T> T scan(ForkJoinPool pool, int from, int to, int threshold, SplitPoint splitPoint,
+                             RangeScanner<T> scanner, BinaryOperator<T> combiner) {
+        if (pool == null || to - from <= threshold) {
+            return scanner.scan(from, to);
+        }
+        return pool.invoke(new RangeTask<>(from, to, threshold, splitPoint, scanner, combiner));
+    }
+
+    private static class RangeTask<T> extends RecursiveTask<T> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final transient SplitPoint splitPoint;
+        private final transient RangeScanner<T> scanner;
+        private final transient BinaryOperator<T> combiner;
+
+        RangeTask(int from, int to, int threshold, SplitPoint splitPoint, RangeScanner<T> scanner, BinaryOperator<T> combiner) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.splitPoint = splitPoint;
+            this.scanner = scanner;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected T compute() {
+            var middle = (to - from <= threshold) ? to : splitPoint.split(from, to);
+            if (middle <= from || middle >= to) {
+                return scanner.scan(from, to);
+            }
+            var lower = new RangeTask<>(from, middle, threshold, splitPoint, scanner, combiner);
+            lower.fork();
+            var upper = new RangeTask<>(middle, to, threshold, splitPoint, scanner, combiner).compute();
+            return combiner.apply(lower.join(), upper);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package nl.mout.aoc2023.support;
+
+import static nl.mout.aoc2023.support.InputLoader.loadInput;
+
+public interface Solver<T> {
+
+    int day();
+
+    T parse(String input);
+
+    Object part1(T puzzle);
+
+    default Object part2(T puzzle) {
+        return null;
+    }
+
+    default String input() {
+        return loadInput("day%02d-input.txt".formatted(day()));
+    }
+}
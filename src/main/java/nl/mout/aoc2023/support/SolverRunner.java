@@ -0,0 +1,113 @@
+package nl.mout.aoc2023.support;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+public class SolverRunner {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final ExecutorService executor;
+
+    public SolverRunner(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    public record Phase(long wallNanos, long cpuNanos, long allocatedBytes) {
+    }
+
+    public record Result(int day, Object part1, Object part2, Phase parse, Phase phase1, Phase phase2) {
+    }
+
+    public List<Result> runAll() {
+        var futures = ServiceLoader.load(Solver.class).stream()
+                .map(ServiceLoader.Provider::get)
+                .map(solver -> executor.submit(() -> run((Solver<?>) solver)))
+                .toList();
+        return futures.stream()
+                .map(SolverRunner::await)
+                .sorted(Comparator.comparingInt(Result::day))
+                .toList();
+    }
+
+    private record Measured<R>(R value, Phase phase) {
+    }
+
+    private static <T> Result run(Solver<T> solver) {
+        var input = solver.input();
+        var parsed = measure(() -> solver.parse(input));
+        var part1 = measure(() -> solver.part1(parsed.value()));
+        var part2 = measure(() -> solver.part2(parsed.value()));
+        return new Result(solver.day(), part1.value(), part2.value(), parsed.phase(), part1.phase(), part2.phase());
+    }
+
+    private static <R> Measured<R> measure(Supplier<R> phase) {
+        var cpuStart = THREADS.getCurrentThreadCpuTime();
+        var allocatedStart = THREADS.getCurrentThreadAllocatedBytes();
+        var wallStart = System.nanoTime();
+        var value = phase.get();
+        var wall = System.nanoTime() - wallStart;
+        var cpu = cpuStart < 0 ? -1 : THREADS.getCurrentThreadCpuTime() - cpuStart;
+        var allocated = allocatedStart < 0 ? -1 : THREADS.getCurrentThreadAllocatedBytes() - allocatedStart;
+        return new Measured<>(value, new Phase(wall, cpu, allocated));
+    }
+
+    private static Result await(Future<Result> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for solver", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Solver failed", e.getCause());
+        }
+    }
+
+    private static ExecutorService createExecutor(String kind, int parallelism) {
+        return switch (kind) {
+            case "virtual" -> Executors.newVirtualThreadPerTaskExecutor();
+            case "forkjoin" -> new ForkJoinPool(parallelism);
+            default -> throw new IllegalArgumentException("Unsupported executor: " + kind);
+        };
+    }
+
+    private static String format(Phase phase) {
+        return "%9.1f %9s %11s".formatted(
+                phase.wallNanos() / 1e6,
+                phase.cpuNanos() < 0 ? "n/a" : "%.1f".formatted(phase.cpuNanos() / 1e6),
+                phase.allocatedBytes() < 0 ? "n/a" : String.valueOf(phase.allocatedBytes() / 1024));
+    }
+
+    public static void main(String[] args) {
+        var kind = args.length > 0 ? args[0] : "forkjoin";
+        var parallelism = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        var start = System.nanoTime();
+        List<Result> results;
+        try (var executor = createExecutor(kind, parallelism)) {
+            results = new SolverRunner(executor).runAll();
+        }
+        var total = System.nanoTime() - start;
+
+        System.out.printf("%-4s %-16s %-16s %-31s %-31s %-31s\n", "Day", "Part 1", "Part 2", "Parse (ms/cpu ms/KiB)", "Part 1 (ms/cpu ms/KiB)", "Part 2 (ms/cpu ms/KiB)");
+        for (var result : results) {
+            System.out.printf("%-4d %-16s %-16s %s %s %s\n",
+                    result.day(),
+                    result.part1(),
+                    result.part2() == null ? "-" : result.part2(),
+                    format(result.parse()),
+                    format(result.phase1()),
+                    format(result.phase2()));
+        }
+        System.out.printf("Total wall time: %.1f ms (%s, parallelism %d)\n", total / 1e6, kind, parallelism);
+    }
+}